@@ -2,45 +2,48 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingGatewayDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayHttpClient;
+import ru.practicum.shareit.client.RequestCoalescer;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, GatewayHttpClient httpClient,
+                         RequestCoalescer coalescer) {
+        super(serverUrl, API_PREFIX, httpClient, coalescer);
     }
 
-    public ResponseEntity<Object> create(long userId, BookingGatewayDto bookingGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(long userId, BookingGatewayDto bookingGatewayDto) {
         return post("/", userId, bookingGatewayDto);
     }
 
-    public ResponseEntity<Object> update(long ownerId, long bookingId, boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> createAll(long userId,
+                                                               List<BookingGatewayDto> bookingGatewayDtos) {
+        return post("/batch", userId, bookingGatewayDtos);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(long ownerId, long bookingId, boolean approved) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", ownerId, parameters, null);
     }
 
-    public ResponseEntity<Object> getById(long userId, Long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getById(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsByBookerId(long userId, BookingState state, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByBookerId(long userId, BookingState state,
+                                                                           Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -49,8 +52,8 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemBookingsByOwnerId(long ownerId, BookingState state,
-                                                           Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getItemBookingsByOwnerId(long ownerId, BookingState state,
+                                                                              Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -58,4 +61,24 @@ public class BookingClient extends BaseClient {
         );
         return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
     }
+
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByBookerId(long userId, BookingState state,
+                                                                           String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getItemBookingsByOwnerId(long ownerId, BookingState state,
+                                                                              String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/owner?state={state}&cursor={cursor}&size={size}", ownerId, parameters);
+    }
 }
@@ -10,12 +10,15 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingGatewayDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.common.batch.BatchGatewayDto;
 import ru.practicum.shareit.common.validation.Create;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 
+import java.util.concurrent.CompletableFuture;
+
 import static ru.practicum.shareit.common.constants.HeaderGatewayConstants.HEADER_USER_ID;
 
 @Controller
@@ -28,32 +31,43 @@ public class BookingController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> create(@RequestHeader(HEADER_USER_ID) long userId,
-                                         @Validated(Create.class) @RequestBody BookingGatewayDto bookingGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Create.class) @RequestBody BookingGatewayDto bookingGatewayDto) {
         log.info("Gateway: Запрос на аренду вещи с id {} пользователем с id {}", bookingGatewayDto.getItemId(), userId);
         return bookingClient.create(userId, bookingGatewayDto);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public CompletableFuture<ResponseEntity<Object>> createAll(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Create.class) @RequestBody BatchGatewayDto<BookingGatewayDto> batchGatewayDto) {
+        log.info("Gateway: Запрос на аренду {} вещей пользователем с id {}", batchGatewayDto.getElements().size(),
+                userId);
+        return bookingClient.createAll(userId, batchGatewayDto.getElements());
+    }
+
     @PatchMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> update(@RequestHeader(HEADER_USER_ID) long ownerId,
-                                         @PathVariable long bookingId,
-                                         @RequestParam boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> update(@RequestHeader(HEADER_USER_ID) long ownerId,
+                                                            @PathVariable long bookingId,
+                                                            @RequestParam boolean approved) {
         log.info("Gateway: Запрос на обновление бронирования с id {} пользователем с id {}", bookingId, ownerId);
         return bookingClient.update(ownerId, bookingId, approved);
     }
 
     @GetMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getById(@RequestHeader(HEADER_USER_ID) long userId,
-                                          @PathVariable long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(HEADER_USER_ID) long userId,
+                                                             @PathVariable long bookingId) {
         log.info("Gateway: Запрос на получение бронирования по ID: {}", bookingId);
         return bookingClient.getById(userId, bookingId);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getBookingsByBookerId(
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByBookerId(
             @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
             @RequestHeader(HEADER_USER_ID) long bookerId,
             @RequestParam(value = "from", defaultValue = "0")
@@ -67,9 +81,24 @@ public class BookingController {
         return bookingClient.getBookingsByBookerId(bookerId, state, from, size);
     }
 
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByBookerId(
+            @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
+            @RequestHeader(HEADER_USER_ID) long bookerId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
+        BookingState state = stateVerification(stateParam);
+        log.info("Gateway: Запрос на получение списка бронирований пользователя по ID: {}\n" +
+                "Параметр cursor: {}, параметр size: {}", bookerId, cursor, size);
+        return bookingClient.getBookingsByBookerId(bookerId, state, cursor, size);
+    }
+
     @GetMapping("/owner")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getItemBookingsByOwnerId(
+    public CompletableFuture<ResponseEntity<Object>> getItemBookingsByOwnerId(
             @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
             @RequestHeader(HEADER_USER_ID) long ownerId,
             @RequestParam(value = "from", defaultValue = "0")
@@ -83,6 +112,21 @@ public class BookingController {
         return bookingClient.getItemBookingsByOwnerId(ownerId, state, from, size);
     }
 
+    @GetMapping(value = "/owner", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getItemBookingsByOwnerId(
+            @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
+            @RequestHeader(HEADER_USER_ID) long ownerId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
+        BookingState state = stateVerification(stateParam);
+        log.info("Gateway: Запрос на получение списка бронирований для вещей пользователя с ID: {}\n" +
+                "Параметр cursor: {}, параметр size: {}", ownerId, cursor, size);
+        return bookingClient.getItemBookingsByOwnerId(ownerId, state, cursor, size);
+    }
+
     private BookingState stateVerification(String stateParam) {
         return BookingState.from(stateParam).orElseThrow(() -> {
             log.error("Неизвестный статус бронирования: {}", stateParam);
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncGatewayHttpClient implements GatewayHttpClient {
+    private final CloseableHttpAsyncClient httpClient;
+    private final HttpClientProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public AsyncGatewayHttpClient(CloseableHttpAsyncClient httpClient, HttpClientProperties properties,
+                                  ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public GatewayRoute route(String name) {
+        HttpClientProperties.Route route = properties.route(name);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) route.getConnectTimeout().toMillis())
+                .setConnectionRequestTimeout((int) route.getConnectionRequestTimeout().toMillis())
+                .setSocketTimeout((int) route.getResponseTimeout().toMillis())
+                .build();
+        RouteLimiter limiter = new RouteLimiter(route);
+
+        return request -> limiter.submit(() -> send(request, requestConfig));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> send(RequestEntity<?> request, RequestConfig requestConfig) {
+        HttpUriRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(request, requestConfig);
+        } catch (JsonProcessingException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        CompletableFuture<ResponseEntity<Object>> response = new CompletableFuture<>();
+        BoundedResponseConsumer consumer = new BoundedResponseConsumer(properties.getMaxResponseSize().toBytes());
+        httpClient.execute(HttpAsyncMethods.create(httpRequest), consumer, new FutureCallback<>() {
+            @Override
+            public void completed(HttpResponse result) {
+                try {
+                    response.complete(toResponseEntity(result));
+                } catch (IOException exception) {
+                    response.completeExceptionally(exception);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                response.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+                response.cancel(false);
+            }
+        });
+        return response;
+    }
+
+    private HttpUriRequest toHttpRequest(RequestEntity<?> request, RequestConfig requestConfig)
+            throws JsonProcessingException {
+        RequestBuilder builder = RequestBuilder.create(request.getMethod().name())
+                .setUri(request.getUrl())
+                .setConfig(requestConfig);
+        request.getHeaders().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+
+        if (request.getBody() != null) {
+            builder.setEntity(new ByteArrayEntity(objectMapper.writeValueAsBytes(request.getBody()),
+                    ContentType.APPLICATION_JSON));
+        }
+        return builder.build();
+    }
+
+    private ResponseEntity<Object> toResponseEntity(HttpResponse response) throws IOException {
+        int status = response.getStatusLine().getStatusCode();
+        byte[] body = response.getEntity() != null ? EntityUtils.toByteArray(response.getEntity()) : new byte[0];
+
+        HttpHeaders headers = new HttpHeaders();
+        for (Header header : response.getAllHeaders()) {
+            headers.add(header.getName(), header.getValue());
+        }
+
+        if (body.length == 0) {
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        if (properties.isPassThrough() || HttpStatus.Series.resolve(status) != HttpStatus.Series.SUCCESSFUL) {
+            return ResponseEntity.status(status).headers(headers).body(body);
+        }
+        return ResponseEntity.status(status).headers(headers).body(objectMapper.readValue(body, Object.class));
+    }
+}
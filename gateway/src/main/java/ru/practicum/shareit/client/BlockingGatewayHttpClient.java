@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+public class BlockingGatewayHttpClient implements GatewayHttpClient {
+    private final CloseableHttpClient httpClient;
+    private final HttpClientProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+
+    public BlockingGatewayHttpClient(CloseableHttpClient httpClient, HttpClientProperties properties,
+                                     RestTemplateBuilder restTemplateBuilder) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.restTemplateBuilder = restTemplateBuilder;
+    }
+
+    @Override
+    public GatewayRoute route(String name) {
+        HttpClientProperties.Route route = properties.route(name);
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectTimeout((int) route.getConnectTimeout().toMillis());
+        requestFactory.setConnectionRequestTimeout((int) route.getConnectionRequestTimeout().toMillis());
+        requestFactory.setReadTimeout((int) route.getResponseTimeout().toMillis());
+        RestTemplate rest = restTemplateBuilder.requestFactory(() -> requestFactory)
+                .additionalInterceptors(new BoundedResponseInterceptor(properties.getMaxResponseSize().toBytes()))
+                .build();
+        RouteLimiter limiter = new RouteLimiter(route);
+
+        Class<?> responseType = properties.isPassThrough() ? byte[].class : Object.class;
+
+        return request -> limiter.submit(() -> send(rest, request, responseType));
+    }
+
+    private static CompletableFuture<ResponseEntity<Object>> send(RestTemplate rest, RequestEntity<?> request,
+                                                                  Class<?> responseType) {
+        try {
+            ResponseEntity<?> response = rest.exchange(request, responseType);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(response.getBody(), response.getHeaders(),
+                    response.getStatusCode()));
+        } catch (HttpStatusCodeException exception) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(exception.getStatusCode())
+                    .headers(exception.getResponseHeaders())
+                    .body(exception.getResponseBodyAsByteArray()));
+        } catch (ResourceAccessException exception) {
+            return CompletableFuture.failedFuture(exception.getCause() != null ? exception.getCause() : exception);
+        } catch (RestClientException exception) {
+            Throwable cause = exception.getMostSpecificCause();
+            return CompletableFuture.failedFuture(cause instanceof IOException ? cause : exception);
+        }
+    }
+}
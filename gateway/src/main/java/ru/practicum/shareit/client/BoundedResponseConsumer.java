@@ -0,0 +1,67 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.ContentBufferEntity;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.util.HeapByteBufferAllocator;
+import org.apache.http.nio.util.SimpleInputBuffer;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+
+class BoundedResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private final long maxSize;
+    private HttpResponse response;
+    private SimpleInputBuffer buffer;
+    private long received;
+
+    BoundedResponseConsumer(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    static IOException tooLarge(long maxSize) {
+        return new IOException(String.format("Размер ответа сервера превышает %d байт", maxSize));
+    }
+
+    @Override
+    protected void onResponseReceived(HttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) throws IOException {
+        long length = entity.getContentLength();
+        if (length > maxSize) {
+            throw tooLarge(maxSize);
+        }
+
+        buffer = new SimpleInputBuffer(length > 0 ? (int) length : DEFAULT_BUFFER_SIZE,
+                HeapByteBufferAllocator.INSTANCE);
+        response.setEntity(new ContentBufferEntity(entity, buffer));
+    }
+
+    @Override
+    protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+        received += Math.max(buffer.consumeContent(decoder), 0);
+        if (received > maxSize) {
+            throw tooLarge(maxSize);
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(HttpContext context) {
+        return response;
+    }
+
+    @Override
+    protected void releaseResources() {
+        response = null;
+        buffer = null;
+    }
+}
@@ -0,0 +1,5 @@
+package ru.practicum.shareit.client;
+
+public interface GatewayHttpClient {
+    GatewayRoute route(String name);
+}
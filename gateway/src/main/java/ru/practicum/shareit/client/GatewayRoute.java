@@ -0,0 +1,10 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface GatewayRoute {
+    CompletableFuture<ResponseEntity<Object>> exchange(RequestEntity<?> request);
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties({HttpClientProperties.class, MicroBatchingProperties.class,
+        ResponseCacheProperties.class})
+public class HttpClientConfig {
+    private static final String ASYNC_PROPERTY = "shareit-gateway.http-client.async";
+
+    @Bean
+    @ConditionalOnProperty(name = ASYNC_PROPERTY, havingValue = "true", matchIfMissing = true)
+    public CloseableHttpAsyncClient asyncHttpClient(HttpClientProperties properties) {
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setDefaultIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(properties.getIoThreads())
+                        .setSoKeepAlive(true)
+                        .build())
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setKeepAliveStrategy(keepAliveStrategy(properties))
+                .build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ASYNC_PROPERTY, havingValue = "true", matchIfMissing = true)
+    public GatewayHttpClient asyncGatewayHttpClient(CloseableHttpAsyncClient httpClient,
+                                                    HttpClientProperties properties, ObjectMapper objectMapper) {
+        return new AsyncGatewayHttpClient(httpClient, properties, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ASYNC_PROPERTY, havingValue = "false")
+    public CloseableHttpClient httpClient(HttpClientProperties properties) {
+        return HttpClients.custom()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setKeepAliveStrategy(keepAliveStrategy(properties))
+                .evictIdleConnections(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ASYNC_PROPERTY, havingValue = "false")
+    public GatewayHttpClient blockingGatewayHttpClient(CloseableHttpClient httpClient,
+                                                       HttpClientProperties properties,
+                                                       RestTemplateBuilder restTemplateBuilder) {
+        return new BlockingGatewayHttpClient(httpClient, properties, restTemplateBuilder);
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(HttpClientProperties properties) {
+        long maxKeepAlive = properties.getKeepAlive().toMillis();
+        return (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? Math.min(keepAlive, maxKeepAlive) : maxKeepAlive;
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.http-client")
+public class HttpClientProperties {
+    private boolean async = true;
+    private boolean passThrough = true;
+    private int maxConnections = 200;
+    private int ioThreads = Runtime.getRuntime().availableProcessors();
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private DataSize maxResponseSize = DataSize.ofMegabytes(4);
+    private Route defaults = new Route(50, 200, Duration.ofSeconds(2), Duration.ofSeconds(5),
+            Duration.ofSeconds(30));
+    private Map<String, Route> routes = new HashMap<>();
+
+    public Route route(String name) {
+        Route route = routes.get(name);
+        if (route == null) {
+            return defaults;
+        }
+
+        return new Route(
+                Optional.ofNullable(route.getMaxConnections()).orElse(defaults.getMaxConnections()),
+                Optional.ofNullable(route.getMaxPending()).orElse(defaults.getMaxPending()),
+                Optional.ofNullable(route.getConnectTimeout()).orElse(defaults.getConnectTimeout()),
+                Optional.ofNullable(route.getConnectionRequestTimeout()).orElse(defaults.getConnectionRequestTimeout()),
+                Optional.ofNullable(route.getResponseTimeout()).orElse(defaults.getResponseTimeout())
+        );
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private Integer maxConnections;
+        private Integer maxPending;
+        private Duration connectTimeout;
+        private Duration connectionRequestTimeout;
+        private Duration responseTimeout;
+    }
+}
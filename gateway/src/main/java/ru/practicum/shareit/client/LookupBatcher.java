@@ -0,0 +1,162 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class LookupBatcher {
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Executor flushDelay;
+    private final ObjectMapper objectMapper;
+    private final Function<Collection<Long>, CompletableFuture<ResponseEntity<Object>>> bulkRequest;
+    private Batch open;
+    private int inFlight;
+
+    public LookupBatcher(MicroBatchingProperties properties, ObjectMapper objectMapper,
+                         Function<Collection<Long>, CompletableFuture<ResponseEntity<Object>>> bulkRequest) {
+        this.enabled = properties.isEnabled();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.flushDelay = CompletableFuture.delayedExecutor(properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        this.objectMapper = objectMapper;
+        this.bulkRequest = bulkRequest;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> load(long id,
+                                                         Supplier<CompletableFuture<ResponseEntity<Object>>> single) {
+        return load(id, UnaryOperator.identity(), single);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> load(long id, UnaryOperator<JsonNode> view,
+                                                         Supplier<CompletableFuture<ResponseEntity<Object>>> single) {
+        if (!enabled) {
+            return single.get();
+        }
+
+        CompletableFuture<Optional<JsonNode>> element = enqueue(id);
+        if (element == null) {
+            return sendSingle(single);
+        }
+
+        return element.thenCompose(found -> found
+                .map(node -> CompletableFuture.completedFuture(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .<Object>body(view.apply(node))))
+                .orElseGet(single));
+    }
+
+    private CompletableFuture<Optional<JsonNode>> enqueue(long id) {
+        Batch full = null;
+        CompletableFuture<Optional<JsonNode>> result;
+        synchronized (this) {
+            if (open == null && inFlight == 0) {
+                inFlight++;
+                return null;
+            }
+
+            if (open == null) {
+                Batch created = new Batch();
+                flushDelay.execute(() -> flush(created));
+                open = created;
+            }
+            result = open.waiters.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (open.waiters.size() >= maxBatchSize) {
+                full = open;
+                open = null;
+                inFlight++;
+            }
+        }
+
+        if (full != null) {
+            send(full);
+        }
+        return result.copy();
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> sendSingle(
+            Supplier<CompletableFuture<ResponseEntity<Object>>> single) {
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = single.get();
+        } catch (RuntimeException exception) {
+            response = CompletableFuture.failedFuture(exception);
+        }
+        return response.whenComplete((value, exception) -> complete());
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (open != batch) {
+                return;
+            }
+            open = null;
+            inFlight++;
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = bulkRequest.apply(batch.waiters.keySet());
+        } catch (RuntimeException exception) {
+            response = CompletableFuture.failedFuture(exception);
+        }
+
+        response.whenComplete((value, exception) -> {
+            complete();
+            if (exception != null) {
+                batch.waiters.values().forEach(waiter -> waiter.completeExceptionally(exception));
+                return;
+            }
+
+            Map<Long, JsonNode> found = parse(value);
+            batch.waiters.forEach((id, waiter) -> waiter.complete(Optional.ofNullable(found.get(id))));
+        });
+    }
+
+    private synchronized void complete() {
+        inFlight--;
+    }
+
+    private Map<Long, JsonNode> parse(ResponseEntity<Object> response) {
+        Map<Long, JsonNode> found = new HashMap<>();
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return found;
+        }
+
+        JsonNode elements;
+        try {
+            elements = response.getBody() instanceof byte[]
+                    ? objectMapper.readTree((byte[]) response.getBody())
+                    : objectMapper.valueToTree(response.getBody());
+        } catch (IOException exception) {
+            return found;
+        }
+
+        for (JsonNode element : elements) {
+            if (element.hasNonNull("id")) {
+                found.put(element.get("id").asLong(), element);
+            }
+        }
+        return found;
+    }
+
+    private static class Batch {
+        private final Map<Long, CompletableFuture<Optional<JsonNode>>> waiters = new LinkedHashMap<>();
+    }
+}
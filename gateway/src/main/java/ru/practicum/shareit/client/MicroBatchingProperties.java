@@ -0,0 +1,16 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.micro-batching")
+public class MicroBatchingProperties {
+    private boolean enabled = true;
+    private Duration window = Duration.ofMillis(2);
+    private int maxBatchSize = 50;
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Component
+public class RequestCoalescer {
+    private static final String METRIC_NAME = "gateway.requests.coalescing";
+
+    private final boolean enabled;
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Counter upstream;
+    private final Counter coalesced;
+
+    public RequestCoalescer(@Value("${shareit-gateway.coalescing.enabled:true}") boolean enabled,
+                            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.upstream = Counter.builder(METRIC_NAME)
+                .tag("result", "upstream")
+                .register(registry);
+        this.coalesced = Counter.builder(METRIC_NAME)
+                .tag("result", "coalesced")
+                .register(registry);
+    }
+
+    CompletableFuture<ResponseEntity<Object>> execute(String key,
+                                                      Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        CompletableFuture<ResponseEntity<Object>> shared = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        upstream.increment();
+
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException exception) {
+            response = CompletableFuture.failedFuture(exception);
+        }
+
+        response.whenComplete((value, exception) -> {
+            inFlight.remove(key, shared);
+            if (exception != null) {
+                shared.completeExceptionally(exception);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.copy();
+    }
+}
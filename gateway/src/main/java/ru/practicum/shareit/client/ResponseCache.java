@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ResponseCache {
+    private static final String CACHE_NAME_PREFIX = "gateway-response-";
+
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, RouteCache> routes = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> get(String route, String key, boolean bypass,
+                                                         Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        if (!properties.isEnabled()) {
+            return request.get();
+        }
+
+        RouteCache cache = cache(route);
+        if (!bypass) {
+            ResponseEntity<Object> cached = cache.entries.getIfPresent(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        long generation = cache.generation.get();
+        return request.get().thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                cache.entries.put(key, response);
+                if (cache.generation.get() != generation) {
+                    cache.entries.invalidate(key);
+                }
+            }
+            return response;
+        });
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> invalidateOnSuccess(
+            String route, CompletableFuture<ResponseEntity<Object>> write) {
+        return write.thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                invalidate(route);
+            }
+            return response;
+        });
+    }
+
+    public void invalidate(String route) {
+        RouteCache cache = routes.get(route);
+        if (cache != null) {
+            cache.generation.incrementAndGet();
+            cache.entries.invalidateAll();
+        }
+    }
+
+    public static boolean isBypass(@Nullable String cacheControl) {
+        if (cacheControl == null) {
+            return false;
+        }
+
+        String noCache = CacheControl.noCache().getHeaderValue();
+        String noStore = CacheControl.noStore().getHeaderValue();
+        for (String directive : cacheControl.split(",")) {
+            String value = directive.strip();
+            if (value.equalsIgnoreCase(noCache) || value.equalsIgnoreCase(noStore)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RouteCache cache(String route) {
+        return routes.computeIfAbsent(route, name -> new RouteCache(CaffeineCacheMetrics.monitor(registry,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(properties.ttl(name))
+                        .recordStats()
+                        .<String, ResponseEntity<Object>>build(), CACHE_NAME_PREFIX + name)));
+    }
+
+    private static class RouteCache {
+        private final Cache<String, ResponseEntity<Object>> entries;
+        private final AtomicLong generation = new AtomicLong();
+
+        private RouteCache(Cache<String, ResponseEntity<Object>> entries) {
+            this.entries = entries;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.response-cache")
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration defaultTtl = Duration.ofSeconds(2);
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    public Duration ttl(String route) {
+        return ttl.getOrDefault(route, defaultTtl);
+    }
+}
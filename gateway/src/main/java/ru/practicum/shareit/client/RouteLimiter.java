@@ -0,0 +1,102 @@
+package ru.practicum.shareit.client;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+class RouteLimiter {
+    private final int maxConnections;
+    private final int maxPending;
+    private final Executor waitTimeout;
+    private final Queue<Call<?>> pending = new ArrayDeque<>();
+    private int active;
+
+    RouteLimiter(HttpClientProperties.Route route) {
+        this.maxConnections = route.getMaxConnections();
+        this.maxPending = route.getMaxPending();
+        this.waitTimeout = CompletableFuture.delayedExecutor(route.getConnectionRequestTimeout().toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        Call<T> call = new Call<>(request);
+        synchronized (this) {
+            if (active == maxConnections) {
+                if (pending.size() >= maxPending) {
+                    return CompletableFuture.failedFuture(
+                            new RejectedExecutionException("Превышен размер очереди запросов к серверу"));
+                }
+                pending.add(call);
+                waitTimeout.execute(call::expire);
+                return call.result;
+            }
+            active++;
+        }
+        call.start();
+        return call.result;
+    }
+
+    private void release() {
+        while (true) {
+            Call<?> next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            if (next.start()) {
+                return;
+            }
+        }
+    }
+
+    private class Call<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Call(Supplier<CompletableFuture<T>> request) {
+            this.request = request;
+        }
+
+        private boolean start() {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+
+            CompletableFuture<T> response;
+            try {
+                response = request.get();
+            } catch (RuntimeException exception) {
+                response = CompletableFuture.failedFuture(exception);
+            }
+
+            response.whenComplete((value, exception) -> {
+                if (exception != null) {
+                    result.completeExceptionally(exception);
+                } else {
+                    result.complete(value);
+                }
+                release();
+            });
+            return true;
+        }
+
+        private void expire() {
+            if (claimed.compareAndSet(false, true)) {
+                synchronized (RouteLimiter.this) {
+                    pending.remove(this);
+                }
+                result.completeExceptionally(new TimeoutException("Превышено время ожидания соединения"));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.common.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.common.validation.Create;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGatewayDto<T> {
+    public static final int MAX_SIZE = 5000;
+
+    @NotEmpty(groups = {Create.class}, message = "Необходимо передать хотя бы один элемент!")
+    @Size(groups = {Create.class}, max = MAX_SIZE, message = "Максимальное количество элементов: " + MAX_SIZE)
+    private List<@Valid T> elements;
+}
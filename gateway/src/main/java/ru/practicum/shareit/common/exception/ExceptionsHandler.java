@@ -7,7 +7,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
+import java.net.SocketTimeoutException;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestControllerAdvice
@@ -28,4 +32,32 @@ public class ExceptionsHandler {
         log.error("400 - Ошибка при обработке запроса: Unknown state: {}", exception.getMessage());
         return Map.of("error", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(TimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> handleTimeoutException(final TimeoutException exception) {
+        log.error("503 - Превышено время ожидания свободного соединения с сервером");
+        return Map.of("error", "Сервер перегружен, повторите запрос позже");
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> handleRejectedExecutionException(final RejectedExecutionException exception) {
+        log.error("503 - {}", exception.getMessage());
+        return Map.of("error", "Сервер перегружен, повторите запрос позже");
+    }
+
+    @ExceptionHandler(SocketTimeoutException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Map<String, String> handleSocketTimeoutException(final SocketTimeoutException exception) {
+        log.error("504 - Превышено время ожидания ответа сервера: {}", exception.getMessage());
+        return Map.of("error", "Сервер не ответил вовремя");
+    }
+
+    @ExceptionHandler(IOException.class)
+    @ResponseStatus(HttpStatus.BAD_GATEWAY)
+    public Map<String, String> handleIOException(final IOException exception) {
+        log.error("502 - Ошибка обращения к серверу: {}", exception.getMessage());
+        return Map.of("error", "Сервер недоступен");
+    }
+}
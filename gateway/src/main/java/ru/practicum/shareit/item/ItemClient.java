@@ -1,57 +1,152 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayHttpClient;
+import ru.practicum.shareit.client.LookupBatcher;
+import ru.practicum.shareit.client.MicroBatchingProperties;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.item.dto.CommentGatewayDto;
 import ru.practicum.shareit.item.dto.ItemGatewayDto;
+import ru.practicum.shareit.item.dto.SearchMode;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
+    private static final int SUGGESTION_CACHE_SIZE = 10_000;
+    private static final String SEARCH_CACHE_ROUTE = "items-search";
+    private static final String[] OWNER_ONLY_FIELDS = {"lastBooking", "nextBooking"};
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restTemplateBuilder) {
-        super(
-                restTemplateBuilder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    private final Cache<String, ResponseEntity<Object>> suggestions;
+    private final LookupBatcher itemLookups;
+    private final ResponseCache responseCache;
+
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl,
+                      @Value("${shareit-gateway.suggest-cache-ttl:5s}") Duration suggestionTtl,
+                      GatewayHttpClient httpClient,
+                      RequestCoalescer coalescer,
+                      MicroBatchingProperties batchingProperties,
+                      ObjectMapper objectMapper,
+                      ResponseCache responseCache) {
+        super(serverUrl, API_PREFIX, httpClient, coalescer);
+        this.suggestions = Caffeine.newBuilder()
+                .maximumSize(SUGGESTION_CACHE_SIZE)
+                .expireAfterWrite(suggestionTtl)
+                .build();
+        this.itemLookups = new LookupBatcher(batchingProperties, objectMapper, this::getAll);
+        this.responseCache = responseCache;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> create(long userId, ItemGatewayDto itemGatewayDto) {
+        return invalidateSearch(post("/", userId, itemGatewayDto));
     }
 
-    public ResponseEntity<Object> create(long userId, ItemGatewayDto itemGatewayDto) {
-        return post("/", userId, itemGatewayDto);
+    public CompletableFuture<ResponseEntity<Object>> createAll(long userId, List<ItemGatewayDto> itemGatewayDtos) {
+        return invalidateSearch(post("/batch", userId, itemGatewayDtos));
     }
 
-    public ResponseEntity<Object> update(long itemId, long userId, ItemGatewayDto itemGatewayDto) {
-        return patch("/" + itemId, userId, itemGatewayDto);
+    public CompletableFuture<ResponseEntity<Object>> update(long itemId, long userId, ItemGatewayDto itemGatewayDto) {
+        return invalidateSearch(patch("/" + itemId, userId, itemGatewayDto));
     }
 
-    public ResponseEntity<Object> comment(long userId, long itemId, CommentGatewayDto commentGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> comment(long userId, long itemId,
+                                                             CommentGatewayDto commentGatewayDto) {
         return post("/" + itemId + "/comment", userId, commentGatewayDto);
     }
 
-    public ResponseEntity<Object> get(long itemId, long userId) {
-        return get("/" + itemId, userId);
+    public CompletableFuture<ResponseEntity<Object>> get(long itemId, long userId) {
+        return itemLookups.load(itemId, item -> viewFor(item, userId), () -> get("/" + itemId, userId));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> getAll(Collection<Long> itemIds) {
+        Map<String, Object> parameters = Map.of("ids", itemIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        return get("/?ids={ids}", null, parameters);
     }
 
-    public ResponseEntity<Object> getByUserId(long userId, Integer from, Integer size) {
+    private static JsonNode viewFor(JsonNode item, long userId) {
+        if (item.path("owner").path("id").asLong() == userId) {
+            return item;
+        }
+
+        ObjectNode shared = item.deepCopy();
+        for (String field : OWNER_ONLY_FIELDS) {
+            shared.putNull(field);
+        }
+        return shared;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getByUserId(long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of("from", from, "size", size);
         return get("/?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBySearchText(String text, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of("text", text, "from", from, "size", size);
-        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+    public CompletableFuture<ResponseEntity<Object>> getByUserId(long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of("cursor", cursor, "size", size);
+        return get("/?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getBySearchText(String text, SearchMode mode, Integer from,
+                                                                     Integer size, boolean bypassCache) {
+        String key = String.join("|", text.strip().toLowerCase(Locale.ROOT), mode.name(), String.valueOf(from),
+                String.valueOf(size));
+        Map<String, Object> parameters = Map.of("text", text, "mode", mode.name(), "from", from, "size", size);
+        return responseCache.get(SEARCH_CACHE_ROUTE, key, bypassCache,
+                () -> get("/search?text={text}&mode={mode}&from={from}&size={size}", null, parameters));
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAvailable(String text, LocalDateTime start, LocalDateTime end,
+                                                                  Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of("text", text, "start", start, "end", end, "from", from, "size", size);
+        return get("/available?text={text}&start={start}&end={end}&from={from}&size={size}", null, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(String prefix, Integer size) {
+        String key = prefix.strip().toLowerCase(Locale.ROOT) + "|" + size;
+        ResponseEntity<Object> cached = suggestions.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        Map<String, Object> parameters = Map.of("prefix", prefix, "size", size);
+        return get("/suggest?prefix={prefix}&size={size}", null, parameters).thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                suggestions.put(key, response);
+            }
+            return response;
+        });
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> delete(long itemId) {
+        return invalidateSearch(delete("/" + itemId));
     }
 
-    public ResponseEntity<Object> delete(long itemId) {
-        return delete("/" + itemId);
+    private CompletableFuture<ResponseEntity<Object>> invalidateSearch(
+            CompletableFuture<ResponseEntity<Object>> write) {
+        return write.thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                suggestions.invalidateAll();
+                responseCache.invalidate(SEARCH_CACHE_ROUTE);
+            }
+            return response;
+        });
     }
 }
@@ -2,20 +2,27 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.common.batch.BatchGatewayDto;
 import ru.practicum.shareit.common.validation.Create;
 import ru.practicum.shareit.common.validation.Update;
 import ru.practicum.shareit.item.dto.CommentGatewayDto;
 import ru.practicum.shareit.item.dto.ItemGatewayDto;
+import ru.practicum.shareit.item.dto.SearchMode;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import static ru.practicum.shareit.common.constants.HeaderGatewayConstants.HEADER_USER_ID;
 
@@ -29,39 +36,55 @@ public class ItemController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> create(@RequestHeader(HEADER_USER_ID) long userId,
-                                         @Validated(Create.class) @RequestBody ItemGatewayDto itemGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Create.class) @RequestBody ItemGatewayDto itemGatewayDto) {
         log.info("Gateway: Запрос на создание предмета {} для пользователя с id {}", itemGatewayDto.getName(), userId);
         return itemClient.create(userId, itemGatewayDto);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public CompletableFuture<ResponseEntity<Object>> createAll(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Create.class) @RequestBody BatchGatewayDto<ItemGatewayDto> batchGatewayDto) {
+        log.info("Gateway: Запрос на создание {} предметов для пользователя с id {}",
+                batchGatewayDto.getElements().size(), userId);
+        return itemClient.createAll(userId, batchGatewayDto.getElements());
+    }
+
     @PatchMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> update(@PathVariable long id, @RequestHeader(HEADER_USER_ID) long userId,
-                                         @Validated(Update.class) @RequestBody ItemGatewayDto itemGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(
+            @PathVariable long id,
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Update.class) @RequestBody ItemGatewayDto itemGatewayDto) {
         log.info("Gateway: Запрос на обновление предмета {} для пользователя с id {}", itemGatewayDto.getName(), userId);
         return itemClient.update(id, userId, itemGatewayDto);
     }
 
     @PostMapping("/{itemId}/comment")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> comment(@RequestHeader(HEADER_USER_ID) long userId,
-                                          @PathVariable long itemId,
-                                          @Validated(Create.class) @RequestBody CommentGatewayDto commentGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> comment(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @PathVariable long itemId,
+            @Validated(Create.class) @RequestBody CommentGatewayDto commentGatewayDto) {
         log.info("Gateway: Запрос на создание комментария пользователем с ID {}", userId);
         return itemClient.comment(userId, itemId, commentGatewayDto);
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> get(@PathVariable long id, @RequestHeader(HEADER_USER_ID) long userId) {
+    public CompletableFuture<ResponseEntity<Object>> get(
+            @PathVariable long id,
+            @RequestHeader(HEADER_USER_ID) long userId) {
         log.info("Gateway: Запрос на получение предмета по ID: {}", id);
         return itemClient.get(id, userId);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getByUserId(
+    public CompletableFuture<ResponseEntity<Object>> getByUserId(
             @RequestHeader(HEADER_USER_ID) long userId,
             @PositiveOrZero(message = "Минимальное значение индекса: 0")
             @RequestParam(value = "from", defaultValue = "0") Integer from,
@@ -72,25 +95,77 @@ public class ItemController {
         return itemClient.getByUserId(userId, from, size);
     }
 
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getByUserId(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @RequestParam(value = "cursor") String cursor,
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20")
+            @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        log.info("Gateway: Запрос на получение предметов пользователя по ID: {} с курсором {}", userId, cursor);
+        return itemClient.getByUserId(userId, cursor, size);
+    }
+
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getBySearchText(
+    public CompletableFuture<ResponseEntity<Object>> getBySearchText(
             @RequestParam(required = false) String text,
+            @RequestParam(name = "mode", defaultValue = "PREFIX") String modeParam,
             @RequestParam(value = "from", defaultValue = "0")
             @PositiveOrZero(message = "Минимальное значение индекса: 0") Integer from,
             @RequestParam(value = "size", defaultValue = "20")
             @Positive(message = "Минимальное количество элементов: 1")
-            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
-        log.info("Gateway: Запрос на получение предметов по поисковому запросу: {}", text);
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        SearchMode mode = SearchMode.from(modeParam).orElseThrow(() -> {
+            log.error("Неизвестный режим поиска: {}", modeParam);
+            return new IllegalArgumentException(String.format("Unknown search mode: %s", modeParam));
+        });
+        log.info("Gateway: Запрос на получение предметов по поисковому запросу: {}, режим поиска: {}", text, mode);
         if (text.isBlank()) {
-            return ResponseEntity.ok(Collections.emptyList());
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Collections.emptyList()));
+        }
+        return itemClient.getBySearchText(text, mode, from, size, ResponseCache.isBypass(cacheControl));
+    }
+
+    @GetMapping("/available")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getAvailable(
+            @RequestParam(required = false) String text,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(value = "from", defaultValue = "0")
+            @PositiveOrZero(message = "Минимальное значение индекса: 0") Integer from,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
+        log.info("Gateway: Запрос на получение свободных предметов с {} по {} по поисковому запросу: {}", start, end,
+                text);
+        if (!end.isAfter(start)) {
+            log.error("Время окончания периода {} должно быть после его начала {}", end, start);
+            throw new IllegalArgumentException("Время окончания периода должно быть после его начала");
+        }
+        return itemClient.getAvailable(text == null ? "" : text, start, end, from, size);
+    }
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(value = "size", defaultValue = "10")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 10, message = "Максимальное количество элементов: 10") Integer size) {
+        log.info("Gateway: Запрос на получение подсказок для названий предметов по префиксу: {}", prefix);
+        if (prefix == null || prefix.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(Collections.emptyList()));
         }
-        return itemClient.getBySearchText(text, from, size);
+        return itemClient.getSuggestions(prefix, size);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> delete(@PathVariable long id) {
+    public CompletableFuture<ResponseEntity<Object>> delete(@PathVariable long id) {
         log.info("Запрос на удаление предмета по ID: {}", id);
         return itemClient.delete(id);
     }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import java.util.Optional;
+
+public enum SearchMode {
+	PREFIX,
+	RELEVANCE,
+	FUZZY;
+
+	public static Optional<SearchMode> from(String stringMode) {
+		for (SearchMode mode : values()) {
+			if (mode.name().equalsIgnoreCase(stringMode)) {
+				return Optional.of(mode);
+			}
+		}
+		return Optional.empty();
+	}
+}
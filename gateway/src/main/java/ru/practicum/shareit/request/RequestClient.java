@@ -1,43 +1,56 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayHttpClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.request.dto.RequestGatewayDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
+    private static final String FEED_CACHE_ROUTE = "requests-all";
 
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restTemplateBuilder) {
-        super(
-                restTemplateBuilder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    private final ResponseCache responseCache;
+
+    public RequestClient(@Value("${shareit-server.url}") String serverUrl, GatewayHttpClient httpClient,
+                         RequestCoalescer coalescer, ResponseCache responseCache) {
+        super(serverUrl, API_PREFIX, httpClient, coalescer);
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> create(long userId, RequestGatewayDto requestGatewayDto) {
-        return post("/", userId, requestGatewayDto);
+    public CompletableFuture<ResponseEntity<Object>> create(long userId, RequestGatewayDto requestGatewayDto) {
+        return responseCache.invalidateOnSuccess(FEED_CACHE_ROUTE, post("/", userId, requestGatewayDto));
     }
 
-    public ResponseEntity<Object> getOwnRequests(long userId) {
-        return get("/", userId);
+    public CompletableFuture<ResponseEntity<Object>> getOwnRequests(long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of("from", from, "size", size);
+        return get("/?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getOtherUsersRequests(long userId, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getOtherUsersRequests(long userId, Integer from, Integer size,
+                                                                           boolean bypassCache) {
+        String key = String.join("|", String.valueOf(userId), "from", String.valueOf(from), String.valueOf(size));
         Map<String, Object> parameters = Map.of("from", from, "size", size);
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return responseCache.get(FEED_CACHE_ROUTE, key, bypassCache,
+                () -> get("/all?from={from}&size={size}", userId, parameters));
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getOtherUsersRequests(long userId, String cursor, Integer size,
+                                                                           boolean bypassCache) {
+        String key = String.join("|", String.valueOf(userId), "cursor", cursor, String.valueOf(size));
+        Map<String, Object> parameters = Map.of("cursor", cursor, "size", size);
+        return responseCache.get(FEED_CACHE_ROUTE, key, bypassCache,
+                () -> get("/all?cursor={cursor}&size={size}", userId, parameters));
     }
 
-    public ResponseEntity<Object> get(long userId, long requestId) {
+    public CompletableFuture<ResponseEntity<Object>> get(long userId, long requestId) {
         return get("/" + requestId, userId);
     }
 }
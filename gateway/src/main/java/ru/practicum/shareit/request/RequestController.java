@@ -2,11 +2,13 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.common.validation.Create;
 import ru.practicum.shareit.request.dto.RequestGatewayDto;
 
@@ -14,6 +16,8 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 
+import java.util.concurrent.CompletableFuture;
+
 import static ru.practicum.shareit.common.constants.HeaderGatewayConstants.HEADER_USER_ID;
 
 @Controller
@@ -26,35 +30,59 @@ public class RequestController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> create(@RequestHeader(HEADER_USER_ID) long userId,
-                                         @Validated(Create.class) @RequestBody RequestGatewayDto requestGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @Validated(Create.class) @RequestBody RequestGatewayDto requestGatewayDto) {
         log.info("Gateway: Запрос на создание запроса пользователем с id {}", userId);
         return requestClient.create(userId, requestGatewayDto);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getOwnRequests(@RequestHeader(HEADER_USER_ID) long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getOwnRequests(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @RequestParam(value = "from", defaultValue = "0")
+            @PositiveOrZero(message = "Минимальное значение индекса: 0") Integer from,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
         log.info("Gateway: Запрос на получение собственных запросов пользователем с id {}", userId);
-        return requestClient.getOwnRequests(userId);
+        return requestClient.getOwnRequests(userId, from, size);
     }
 
     @GetMapping("/all")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getOtherUsersRequests(
+    public CompletableFuture<ResponseEntity<Object>> getOtherUsersRequests(
             @RequestHeader(HEADER_USER_ID) long userId,
             @RequestParam(value = "from", defaultValue = "0")
             @PositiveOrZero(message = "Минимальное значение индекса: 0") Integer from,
             @RequestParam(value = "size", defaultValue = "20")
             @Positive(message = "Минимальное количество элементов: 1")
-            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
         log.info("Запрос пользователя с id {} на получение запросов других пользователей", userId);
-        return requestClient.getOtherUsersRequests(userId, from, size);
+        return requestClient.getOtherUsersRequests(userId, from, size, ResponseCache.isBypass(cacheControl));
+    }
+
+    @GetMapping(value = "/all", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ResponseEntity<Object>> getOtherUsersRequests(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        log.info("Gateway: Запрос пользователя с id {} на получение запросов других пользователей с курсором {}",
+                userId, cursor);
+        return requestClient.getOtherUsersRequests(userId, cursor, size, ResponseCache.isBypass(cacheControl));
     }
 
     @GetMapping("/{requestId}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> get(@RequestHeader(HEADER_USER_ID) long userId, @PathVariable long requestId) {
+    public CompletableFuture<ResponseEntity<Object>> get(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @PathVariable long requestId) {
         log.info("Запрос на получение запроса с id {} пользователем с id {}", requestId, userId);
         return requestClient.get(userId, requestId);
     }
@@ -1,44 +1,64 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayHttpClient;
+import ru.practicum.shareit.client.LookupBatcher;
+import ru.practicum.shareit.client.MicroBatchingProperties;
+import ru.practicum.shareit.client.RequestCoalescer;
 import ru.practicum.shareit.user.dto.UserGatewayDto;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restTemplateBuilder) {
-        super(
-                restTemplateBuilder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    private final LookupBatcher userLookups;
+
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, GatewayHttpClient httpClient,
+                      RequestCoalescer coalescer, MicroBatchingProperties batchingProperties,
+                      ObjectMapper objectMapper) {
+        super(serverUrl, API_PREFIX, httpClient, coalescer);
+        this.userLookups = new LookupBatcher(batchingProperties, objectMapper, this::getAll);
     }
 
-    public ResponseEntity<Object> create(UserGatewayDto userGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(UserGatewayDto userGatewayDto) {
         return post("/", userGatewayDto);
     }
 
-    public ResponseEntity<Object> update(long userId, UserGatewayDto userGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> createAll(List<UserGatewayDto> userGatewayDtos) {
+        return post("/batch", userGatewayDtos);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(long userId, UserGatewayDto userGatewayDto) {
         return patch("/" + userId, userGatewayDto);
     }
 
-    public ResponseEntity<Object> get(long userId) {
-        return get("/" + userId);
+    public CompletableFuture<ResponseEntity<Object>> get(long userId) {
+        return userLookups.load(userId, () -> get("/" + userId));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> getAll(Collection<Long> userIds) {
+        Map<String, Object> parameters = Map.of("ids", userIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        return get("/?ids={ids}", null, parameters);
     }
 
-    public ResponseEntity<Object> getAll() {
-        return get("/");
+    public CompletableFuture<ResponseEntity<Object>> getAll(Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of("from", from, "size", size);
+        return get("/?from={from}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> delete(long userId) {
+    public CompletableFuture<ResponseEntity<Object>> delete(long userId) {
         return delete("/" + userId);
     }
 }
@@ -7,10 +7,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.common.batch.BatchGatewayDto;
 import ru.practicum.shareit.common.validation.Create;
 import ru.practicum.shareit.common.validation.Update;
 import ru.practicum.shareit.user.dto.UserGatewayDto;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @RequestMapping(path = "/users")
 @RequiredArgsConstructor
@@ -21,36 +28,51 @@ public class UserController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> create(@Validated(Create.class) @RequestBody UserGatewayDto userGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> create(
+            @Validated(Create.class) @RequestBody UserGatewayDto userGatewayDto) {
         log.info("Gateway: Запрос на создание пользователя " + userGatewayDto.getName());
         return userClient.create(userGatewayDto);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public CompletableFuture<ResponseEntity<Object>> createAll(
+            @Validated(Create.class) @RequestBody BatchGatewayDto<UserGatewayDto> batchGatewayDto) {
+        log.info("Gateway: Запрос на создание {} пользователей", batchGatewayDto.getElements().size());
+        return userClient.createAll(batchGatewayDto.getElements());
+    }
+
     @PatchMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> update(@PathVariable long id,
-                                         @Validated(Update.class) @RequestBody UserGatewayDto userGatewayDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(
+            @PathVariable long id,
+            @Validated(Update.class) @RequestBody UserGatewayDto userGatewayDto) {
         log.info("Запрос на обновление пользователя " + userGatewayDto);
         return userClient.update(id, userGatewayDto);
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> get(@PathVariable long id) {
+    public CompletableFuture<ResponseEntity<Object>> get(@PathVariable long id) {
         log.info("Gateway: Запрос на получение пользователя с ID: {}", id);
         return userClient.get(id);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getAll() {
-        log.info("Gateway: Запрос на получение списка всех пользователей");
-        return userClient.getAll();
+    public CompletableFuture<ResponseEntity<Object>> getAll(
+            @RequestParam(value = "from", defaultValue = "0")
+            @PositiveOrZero(message = "Минимальное значение индекса: 0") Integer from,
+            @RequestParam(value = "size", defaultValue = "20")
+            @Positive(message = "Минимальное количество элементов: 1")
+            @Max(value = 20, message = "Максимальное количество элементов: 20") Integer size) {
+        log.info("Gateway: Запрос на получение списка пользователей с {} размером {}", from, size);
+        return userClient.getAll(from, size);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> delete(@PathVariable long id) {
+    public CompletableFuture<ResponseEntity<Object>> delete(@PathVariable long id) {
         log.info("Запрос на удаление пользователя с ID: {}", id);
         return userClient.delete(id);
     }
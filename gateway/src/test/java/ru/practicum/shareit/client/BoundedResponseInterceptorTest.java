@@ -0,0 +1,49 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedResponseInterceptorTest {
+    private final BoundedResponseInterceptor interceptor = new BoundedResponseInterceptor(8);
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/items"));
+
+    @Test
+    @DisplayName("Проверка чтения ответа в пределах допустимого размера")
+    void checkInterceptShouldReadBodyWithinLimit() throws IOException {
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> new MockClientHttpResponse("[1,2,3]".getBytes(), HttpStatus.OK));
+
+        assertThat(StreamUtils.copyToByteArray(response.getBody())).isEqualTo("[1,2,3]".getBytes());
+    }
+
+    @Test
+    @DisplayName("Проверка ошибки при чтении ответа больше допустимого размера")
+    void checkInterceptShouldFailWhenBodyExceedsLimit() throws IOException {
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> new MockClientHttpResponse("[1,2,3,4,5]".getBytes(), HttpStatus.OK));
+
+        assertThatThrownBy(() -> StreamUtils.copyToByteArray(response.getBody())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Проверка ошибки до чтения ответа при превышении заявленной длины")
+    void checkInterceptShouldFailWhenContentLengthExceedsLimit() {
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        response.getHeaders().setContentLength(9);
+
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (httpRequest, body) -> response))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LookupBatcherTest {
+    private final List<List<Long>> bulkRequests = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<ResponseEntity<Object>> pending = new CompletableFuture<>();
+
+    @Test
+    @DisplayName("Проверка немедленной отправки единственного запроса без ожидания окна")
+    void checkLoadShouldSendSingleLookupImmediately() {
+        LookupBatcher batcher = createBatcher(Duration.ofMinutes(1), 50, List.of());
+
+        CompletableFuture<ResponseEntity<Object>> result = batcher.load(1L, () -> found(1L));
+
+        assertThat(result).isCompletedWithValueMatching(response -> idOf(response) == 1L);
+        assertThat(bulkRequests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка отправки пакета при достижении максимального размера")
+    void checkLoadShouldFlushWhenBatchIsFull() {
+        LookupBatcher batcher = createBatcher(Duration.ofMinutes(1), 2, List.of(2L, 3L));
+        batcher.load(1L, () -> pending);
+
+        CompletableFuture<ResponseEntity<Object>> second = batcher.load(2L, this::unexpected);
+        assertThat(bulkRequests).isEmpty();
+        CompletableFuture<ResponseEntity<Object>> third = batcher.load(3L, this::unexpected);
+
+        assertThat(bulkRequests).containsExactly(List.of(2L, 3L));
+        assertThat(second).isCompletedWithValueMatching(response -> idOf(response) == 2L);
+        assertThat(third).isCompletedWithValueMatching(response -> idOf(response) == 3L);
+    }
+
+    @Test
+    @DisplayName("Проверка отправки пакета по истечении окна ожидания")
+    void checkLoadShouldFlushWhenWindowExpires() throws Exception {
+        LookupBatcher batcher = createBatcher(Duration.ofMillis(20), 50, List.of(2L));
+        batcher.load(1L, () -> pending);
+
+        CompletableFuture<ResponseEntity<Object>> result = batcher.load(2L, this::unexpected);
+        assertThat(bulkRequests).isEmpty();
+
+        assertThat(idOf(result.get(1, TimeUnit.SECONDS))).isEqualTo(2L);
+        assertThat(bulkRequests).containsExactly(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Проверка отдельного запроса для элементов, не найденных в пакете")
+    void checkLoadShouldFallBackToSingleRequestForMissingElements() {
+        LookupBatcher batcher = createBatcher(Duration.ofMinutes(1), 2, List.of(2L));
+        batcher.load(1L, () -> pending);
+
+        CompletableFuture<ResponseEntity<Object>> present = batcher.load(2L, this::unexpected);
+        CompletableFuture<ResponseEntity<Object>> missing = batcher.load(3L,
+                () -> CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
+
+        assertThat(present).isCompletedWithValueMatching(response -> idOf(response) == 2L);
+        assertThat(missing).isCompletedWithValueMatching(response -> response.getStatusCodeValue() == 404);
+    }
+
+    @Test
+    @DisplayName("Проверка применения представления вызывающего к элементу из пакета")
+    void checkLoadShouldApplyCallerViewToBatchedElement() {
+        LookupBatcher batcher = createBatcher(Duration.ofMinutes(1), 1, List.of(2L));
+        batcher.load(1L, () -> pending);
+
+        CompletableFuture<ResponseEntity<Object>> result = batcher.load(2L,
+                element -> new ObjectMapper().createObjectNode().put("id", element.get("id").asLong() * 10),
+                this::unexpected);
+
+        assertThat(result).isCompletedWithValueMatching(response -> idOf(response) == 20L);
+    }
+
+    private LookupBatcher createBatcher(Duration window, int maxBatchSize, List<Long> existingIds) {
+        MicroBatchingProperties properties = new MicroBatchingProperties();
+        properties.setWindow(window);
+        properties.setMaxBatchSize(maxBatchSize);
+
+        return new LookupBatcher(properties, new ObjectMapper(), ids -> bulk(ids, existingIds));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> bulk(Collection<Long> ids, List<Long> existingIds) {
+        bulkRequests.add(List.copyOf(ids));
+        return CompletableFuture.completedFuture(ResponseEntity.ok().body(ids.stream()
+                .filter(existingIds::contains)
+                .map(id -> Map.of("id", id))
+                .collect(Collectors.toList())));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> found(long id) {
+        return CompletableFuture.completedFuture(ResponseEntity.ok().body(Map.of("id", id)));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> unexpected() {
+        return CompletableFuture.failedFuture(new AssertionError("Неожиданный отдельный запрос"));
+    }
+
+    private static long idOf(ResponseEntity<Object> response) {
+        return new ObjectMapper().valueToTree(response.getBody()).get("id").asLong();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(true, registry);
+    private final AtomicInteger upstream = new AtomicInteger();
+    private final CompletableFuture<ResponseEntity<Object>> response = new CompletableFuture<>();
+
+    @Test
+    @DisplayName("Проверка объединения одинаковых запросов в один запрос к серверу")
+    void checkExecuteShouldShareInFlightRequest() {
+        CompletableFuture<ResponseEntity<Object>> first = coalescer.execute("/items/1|1", this::request);
+        CompletableFuture<ResponseEntity<Object>> second = coalescer.execute("/items/1|1", this::request);
+        CompletableFuture<ResponseEntity<Object>> other = coalescer.execute("/items/1|2", this::request);
+
+        response.complete(ResponseEntity.ok("дрель"));
+
+        assertThat(upstream).hasValue(2);
+        assertThat(first).isCompletedWithValueMatching(value -> value.getBody().equals("дрель"));
+        assertThat(second).isCompletedWithValueMatching(value -> value.getBody().equals("дрель"));
+        assertThat(other).isDone();
+        assertThat(registry.get("gateway.requests.coalescing").tag("result", "coalesced").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Проверка нового запроса к серверу после завершения предыдущего")
+    void checkExecuteShouldSendNewRequestAfterCompletion() {
+        response.complete(ResponseEntity.ok("дрель"));
+        coalescer.execute("/items/1|1", this::request);
+        coalescer.execute("/items/1|1", this::request);
+
+        assertThat(upstream).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Проверка передачи ошибки всем ожидающим и повторного запроса после ошибки")
+    void checkExecuteShouldPropagateFailureToAllWaiters() {
+        CompletableFuture<ResponseEntity<Object>> first = coalescer.execute("/items/1|1", this::request);
+        CompletableFuture<ResponseEntity<Object>> second = coalescer.execute("/items/1|1", this::request);
+
+        response.completeExceptionally(new IllegalStateException("Сервер недоступен"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        coalescer.execute("/items/1|1", this::request);
+        assertThat(upstream).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Проверка независимости ожидающих при отмене одного из них")
+    void checkExecuteShouldIsolateWaiters() {
+        CompletableFuture<ResponseEntity<Object>> first = coalescer.execute("/items/1|1", this::request);
+        CompletableFuture<ResponseEntity<Object>> second = coalescer.execute("/items/1|1", this::request);
+
+        first.cancel(false);
+        response.complete(ResponseEntity.ok("дрель"));
+
+        assertThat(second).isCompletedWithValueMatching(value -> value.getBody().equals("дрель"));
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> request() {
+        upstream.incrementAndGet();
+        return response;
+    }
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+    private static final String ROUTE = "items-search";
+
+    private final ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties(),
+            new SimpleMeterRegistry());
+    private final AtomicInteger upstream = new AtomicInteger();
+
+    @Test
+    @DisplayName("Проверка ответа из кеша при повторном запросе")
+    void checkGetShouldServeRepeatedRequestFromCache() {
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        assertThat(responseCache.get(ROUTE, "дрель", false, this::request))
+                .isCompletedWithValueMatching(response -> response.getBody().equals(1));
+        assertThat(upstream).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Проверка обхода кеша с обновлением сохранённого ответа")
+    void checkGetShouldBypassCacheAndRefreshEntry() {
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        assertThat(responseCache.get(ROUTE, "дрель", true, this::request))
+                .isCompletedWithValueMatching(response -> response.getBody().equals(2));
+        assertThat(responseCache.get(ROUTE, "дрель", false, this::request))
+                .isCompletedWithValueMatching(response -> response.getBody().equals(2));
+        assertThat(upstream).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Проверка отсутствия кеширования неуспешных ответов")
+    void checkGetShouldNotCacheErrorResponses() {
+        responseCache.get(ROUTE, "дрель", false,
+                () -> CompletableFuture.completedFuture(ResponseEntity.badRequest().build()));
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        assertThat(upstream).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Проверка сброса кеша после успешной записи")
+    void checkInvalidateOnSuccessShouldDropCachedResponsesAfterWrite() {
+        responseCache.get(ROUTE, "дрель", false, this::request);
+        CompletableFuture<ResponseEntity<Object>> write = new CompletableFuture<>();
+        responseCache.invalidateOnSuccess(ROUTE, write);
+
+        responseCache.get(ROUTE, "дрель", false, this::request);
+        assertThat(upstream).hasValue(1);
+
+        write.complete(ResponseEntity.status(201).build());
+        responseCache.get(ROUTE, "дрель", false, this::request);
+        assertThat(upstream).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Проверка сохранения кеша после неуспешной записи")
+    void checkInvalidateOnSuccessShouldKeepCacheAfterFailedWrite() {
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        responseCache.invalidateOnSuccess(ROUTE, CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        assertThat(upstream).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Проверка отказа от кеширования ответа, начатого до сброса кеша")
+    void checkGetShouldNotStoreResponseStartedBeforeInvalidation() {
+        CompletableFuture<ResponseEntity<Object>> stale = new CompletableFuture<>();
+        responseCache.get(ROUTE, "дрель", false, () -> stale);
+
+        responseCache.invalidate(ROUTE);
+        stale.complete(ResponseEntity.ok(0));
+        responseCache.get(ROUTE, "дрель", false, this::request);
+
+        assertThat(upstream).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Проверка распознавания заголовка Cache-Control для обхода кеша")
+    void checkIsBypassShouldRecognizeNoCacheDirectives() {
+        assertThat(ResponseCache.isBypass(null)).isFalse();
+        assertThat(ResponseCache.isBypass("max-age=60")).isFalse();
+        assertThat(ResponseCache.isBypass("no-cache")).isTrue();
+        assertThat(ResponseCache.isBypass("max-age=0, No-Store")).isTrue();
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> request() {
+        return CompletableFuture.completedFuture(ResponseEntity.ok(upstream.incrementAndGet()));
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteLimiterTest {
+    private final CompletableFuture<String> blocker = new CompletableFuture<>();
+
+    @Test
+    @DisplayName("Проверка запуска ожидающего запроса после завершения активного")
+    void checkSubmitShouldStartPendingCallWhenPermitIsReleased() {
+        RouteLimiter limiter = createLimiter(1, 1, Duration.ofMinutes(1));
+        limiter.submit(() -> blocker);
+
+        CompletableFuture<String> pending = limiter.submit(() -> CompletableFuture.completedFuture("второй"));
+        assertThat(pending).isNotDone();
+
+        blocker.complete("первый");
+        assertThat(pending).isCompletedWithValue("второй");
+    }
+
+    @Test
+    @DisplayName("Проверка освобождения соединения после неуспешного запроса")
+    void checkSubmitShouldReleasePermitOnFailure() {
+        RouteLimiter limiter = createLimiter(1, 1, Duration.ofMinutes(1));
+
+        CompletableFuture<String> failed = limiter.submit(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Ошибка сервера")));
+        CompletableFuture<String> thrown = limiter.submit(() -> {
+            throw new IllegalStateException("Ошибка подготовки запроса");
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(thrown).isCompletedExceptionally();
+        assertThat(limiter.submit(() -> CompletableFuture.completedFuture("следующий")))
+                .isCompletedWithValue("следующий");
+    }
+
+    @Test
+    @DisplayName("Проверка отказа при переполнении очереди ожидания")
+    void checkSubmitShouldRejectWhenQueueIsFull() {
+        RouteLimiter limiter = createLimiter(1, 1, Duration.ofMinutes(1));
+        limiter.submit(() -> blocker);
+        limiter.submit(() -> CompletableFuture.completedFuture("в очереди"));
+
+        CompletableFuture<String> rejected = limiter.submit(() -> CompletableFuture.completedFuture("лишний"));
+
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Проверка удаления запроса из очереди по истечении времени ожидания")
+    void checkSubmitShouldRemoveExpiredCallFromQueue() throws Exception {
+        RouteLimiter limiter = createLimiter(1, 1, Duration.ofMillis(20));
+        limiter.submit(() -> blocker);
+
+        CompletableFuture<String> expired = limiter.submit(() -> CompletableFuture.completedFuture("просрочен"));
+        assertThatThrownBy(() -> expired.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("в очереди"));
+        assertThat(queued).isNotCompletedExceptionally();
+
+        blocker.complete("первый");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("в очереди");
+    }
+
+    private RouteLimiter createLimiter(int maxConnections, int maxPending, Duration waitTimeout) {
+        return new RouteLimiter(new HttpClientProperties.Route(maxConnections, maxPending, Duration.ofSeconds(1),
+                waitTimeout, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.client.MicroBatchingProperties;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+import ru.practicum.shareit.item.dto.ItemGatewayDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemClientTest {
+    private final AtomicInteger searches = new AtomicInteger();
+    private final CompletableFuture<ResponseEntity<Object>> write = new CompletableFuture<>();
+    private final ItemClient itemClient = new ItemClient("http://localhost:9090", Duration.ofSeconds(5),
+            name -> request -> request.getMethod() == HttpMethod.GET
+                    ? CompletableFuture.completedFuture(ResponseEntity.ok().body(searches.incrementAndGet()))
+                    : write,
+            new RequestCoalescer(false, new SimpleMeterRegistry()), new MicroBatchingProperties(),
+            new ObjectMapper(), new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("Проверка сброса кеша поиска только после успешного создания вещи")
+    void checkCreateShouldInvalidateSearchCacheAfterSuccessfulWrite() {
+        search();
+        itemClient.create(1L, new ItemGatewayDto());
+
+        search();
+        assertThat(searches).hasValue(1);
+
+        write.complete(ResponseEntity.status(201).build());
+        search();
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Проверка сохранения кеша поиска после неуспешного обновления вещи")
+    void checkUpdateShouldKeepSearchCacheAfterFailedWrite() {
+        search();
+        itemClient.update(1L, 1L, new ItemGatewayDto());
+
+        write.complete(ResponseEntity.notFound().build());
+        search();
+        assertThat(searches).hasValue(1);
+    }
+
+    private void search() {
+        itemClient.getBySearchText("дрель", SearchMode.PREFIX, 0, 20, false);
+    }
+}
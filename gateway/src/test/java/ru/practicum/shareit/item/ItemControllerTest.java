@@ -0,0 +1,47 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.SearchMode;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@WebMvcTest(controllers = ItemController.class)
+class ItemControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @Test
+    @DisplayName("Проверка обхода кеша поиска при заголовке Cache-Control: no-cache")
+    void checkGetBySearchTextShouldBypassCacheForNoCacheHeader() throws Exception {
+        when(itemClient.getBySearchText(anyString(), eq(SearchMode.PREFIX), anyInt(), anyInt(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(List.of())));
+
+        mockMvc.perform(get("/items/search").queryParam("text", "дрель")
+                .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue()));
+        mockMvc.perform(get("/items/search").queryParam("text", "дрель"));
+
+        verify(itemClient, times(1)).getBySearchText("дрель", SearchMode.PREFIX, 0, 20, true);
+        verify(itemClient, times(1)).getBySearchText("дрель", SearchMode.PREFIX, 0, 20, false);
+    }
+}
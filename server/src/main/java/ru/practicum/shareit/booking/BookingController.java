@@ -3,9 +3,11 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.common.batch.BatchResult;
 import ru.practicum.shareit.common.pagination.Pagination;
 
 import java.util.List;
@@ -28,6 +30,14 @@ public class BookingController {
         return bookingService.create(bookingDto, userId);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public List<BatchResult<Booking>> createAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                @RequestBody List<BookingDto> bookingDtos) {
+        log.info("Server: Запрос на создание {} бронирований пользователем с id {}", bookingDtos.size(), userId);
+        return bookingService.createAll(bookingDtos, userId);
+    }
+
     @PatchMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
     public Booking update(@RequestHeader(HEADER_USER_ID) long ownerId,
@@ -56,6 +66,18 @@ public class BookingController {
         return bookingService.getBookingsByBookerId(bookerId, searchState, Pagination.splitByPages(from, size));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<Booking>> getBookingsByBookerId(
+            @RequestParam(name = "state", defaultValue = "ALL") BookingState searchState,
+            @RequestHeader(HEADER_USER_ID) long bookerId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение списка бронирований пользователя по ID: {} с курсором {}",
+                bookerId, cursor);
+        return bookingService.getBookingsByBookerId(bookerId, searchState, cursor, Pagination.limitPageSize(size))
+                .toResponse();
+    }
+
     @GetMapping("/owner")
     @ResponseStatus(HttpStatus.OK)
     public List<Booking> getItemBookingsByOwnerId(
@@ -67,4 +89,16 @@ public class BookingController {
                 ownerId);
         return bookingService.getItemBookingsByOwnerId(ownerId, searchState, Pagination.splitByPages(from, size));
     }
+
+    @GetMapping(value = "/owner", params = "cursor")
+    public ResponseEntity<List<Booking>> getItemBookingsByOwnerId(
+            @RequestParam(name = "state", defaultValue = "ALL") BookingState searchState,
+            @RequestHeader(HEADER_USER_ID) long ownerId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение списка бронирований для вещей пользователя с ID: {} с курсором {}",
+                ownerId, cursor);
+        return bookingService.getItemBookingsByOwnerId(ownerId, searchState, cursor, Pagination.limitPageSize(size))
+                .toResponse();
+    }
 }
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.transaction.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class BookingListCache {
+    private final CacheManager cacheManager;
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    public List<Booking> get(Role role, long userId, BookingState state, Pageable pageable,
+                             Supplier<Entry> loader) {
+        ListKey key = new ListKey(role, userId, state, pageable, version(new UserKey(role, userId)));
+
+        Entry entry = cache(CacheConfig.BOOKING_LISTS).get(key, Entry.class);
+        if (entry == null || entry.isExpired(LocalDateTime.now())) {
+            entry = loader.get();
+            cache(CacheConfig.BOOKING_LISTS).put(key, entry);
+        }
+
+        return entry.getBookings();
+    }
+
+    public void evict(long bookerId, long ownerId) {
+        Runnable eviction = () -> {
+            cache(CacheConfig.BOOKING_LIST_VERSIONS).evict(new UserKey(Role.BOOKER, bookerId));
+            cache(CacheConfig.BOOKING_LIST_VERSIONS).evict(new UserKey(Role.OWNER, ownerId));
+        };
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    public void evictUsers(Role role, Collection<Long> userIds) {
+        Runnable eviction = () -> userIds.forEach(userId ->
+                cache(CacheConfig.BOOKING_LIST_VERSIONS).evict(new UserKey(role, userId)));
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    public void evictAll() {
+        Runnable eviction = () -> {
+            cache(CacheConfig.BOOKING_LIST_VERSIONS).clear();
+            cache(CacheConfig.BOOKING_LISTS).clear();
+        };
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    private long version(UserKey userKey) {
+        return Objects.requireNonNull(cache(CacheConfig.BOOKING_LIST_VERSIONS)
+                .get(userKey, lastVersion::incrementAndGet));
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+
+    public enum Role {
+        BOOKER,
+        OWNER
+    }
+
+    @Getter
+    public static class Entry {
+        private final List<Booking> bookings;
+        private final LocalDateTime validUntil;
+
+        public Entry(List<Booking> bookings, LocalDateTime validUntil) {
+            this.bookings = List.copyOf(bookings);
+            this.validUntil = validUntil;
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return validUntil != null && !now.isBefore(validUntil);
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class UserKey {
+        private final Role role;
+        private final long userId;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class ListKey {
+        private final Role role;
+        private final long userId;
+        private final BookingState state;
+        private final Pageable pageable;
+        private final long version;
+    }
+}
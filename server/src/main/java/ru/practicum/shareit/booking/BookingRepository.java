@@ -1,36 +1,215 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByBookerIdOrderByStartDesc(long bookerId, Pageable pageable);
+    @Override
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Optional<Booking> findById(Long id);
 
-    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(long bookerId, LocalDateTime start,
-                                                                             LocalDateTime end, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId ORDER BY b.start DESC")
+    List<Booking> findAllByBookerIdOrderByStartDesc(@Param("bookerId") long bookerId, Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(long bookerId, LocalDateTime end, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.start < :start AND b.end > :end " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(@Param("bookerId") long bookerId,
+                                                                             @Param("start") LocalDateTime start,
+                                                                             @Param("end") LocalDateTime end,
+                                                                             Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(long bookerId, LocalDateTime start, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.end < :end ORDER BY b.start DESC")
+    List<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(@Param("bookerId") long bookerId,
+                                                                @Param("end") LocalDateTime end, Pageable pageable);
 
-    List<Booking> findAllByBookerIdAndStatusOrderByStartDesc(long bookerId, BookingStatus bookingStatus,
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.start > :start ORDER BY b.start DESC")
+    List<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(@Param("bookerId") long bookerId,
+                                                                 @Param("start") LocalDateTime start,
+                                                                 Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.status = :status ORDER BY b.start DESC")
+    List<Booking> findAllByBookerIdAndStatusOrderByStartDesc(@Param("bookerId") long bookerId,
+                                                             @Param("status") BookingStatus bookingStatus,
                                                              Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdOrderByStartDesc(long ownerId, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemOwnerIdOrderByStartDesc(@Param("ownerId") long ownerId, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findAllByBookerIdBeforeKeyset(@Param("bookerId") long bookerId, @Param("start") LocalDateTime start,
+                                                @Param("id") long id, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findAllByItemOwnerIdBeforeKeyset(@Param("ownerId") long ownerId, @Param("start") LocalDateTime start,
+                                                   @Param("id") long id, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.start < :now AND b.end > :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findCurrentByBookerIdBeforeKeyset(@Param("bookerId") long bookerId, @Param("now") LocalDateTime now,
+                                                    @Param("start") LocalDateTime start, @Param("id") long id,
+                                                    Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.end < :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPastByBookerIdBeforeKeyset(@Param("bookerId") long bookerId, @Param("now") LocalDateTime now,
+                                                 @Param("start") LocalDateTime start, @Param("id") long id,
+                                                 Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.start > :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findFutureByBookerIdBeforeKeyset(@Param("bookerId") long bookerId, @Param("now") LocalDateTime now,
+                                                   @Param("start") LocalDateTime start, @Param("id") long id,
+                                                   Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.status = :status " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findAllByBookerIdAndStatusBeforeKeyset(@Param("bookerId") long bookerId,
+                                                         @Param("status") BookingStatus status,
+                                                         @Param("start") LocalDateTime start, @Param("id") long id,
+                                                         Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.start < :now AND b.end > :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findCurrentByItemOwnerIdBeforeKeyset(@Param("ownerId") long ownerId, @Param("now") LocalDateTime now,
+                                                       @Param("start") LocalDateTime start, @Param("id") long id,
+                                                       Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.end < :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findPastByItemOwnerIdBeforeKeyset(@Param("ownerId") long ownerId, @Param("now") LocalDateTime now,
+                                                    @Param("start") LocalDateTime start, @Param("id") long id,
+                                                    Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(long ownerId, LocalDateTime start,
-                                                                                LocalDateTime end, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.start > :now " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findFutureByItemOwnerIdBeforeKeyset(@Param("ownerId") long ownerId, @Param("now") LocalDateTime now,
+                                                      @Param("start") LocalDateTime start, @Param("id") long id,
+                                                      Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(long ownerId, LocalDateTime end, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.status = :status " +
+            "AND (b.start < :start OR (b.start = :start AND b.id < :id)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findAllByItemOwnerIdAndStatusBeforeKeyset(@Param("ownerId") long ownerId,
+                                                            @Param("status") BookingStatus status,
+                                                            @Param("start") LocalDateTime start, @Param("id") long id,
+                                                            Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(long ownerId, LocalDateTime start,
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.start < :start AND b.end > :end " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(@Param("ownerId") long ownerId,
+                                                                                @Param("start") LocalDateTime start,
+                                                                                @Param("end") LocalDateTime end,
+                                                                                Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.end < :end " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(@Param("ownerId") long ownerId,
+                                                                   @Param("end") LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.start > :start " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(@Param("ownerId") long ownerId,
+                                                                    @Param("start") LocalDateTime start,
                                                                     Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(long ownerId, BookingStatus bookingStatus,
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId) " +
+            "AND b.status = :status " +
+            "ORDER BY b.start DESC")
+    List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(@Param("ownerId") long ownerId,
+                                                                @Param("status") BookingStatus bookingStatus,
                                                                 Pageable pageable);
 
-    List<Booking> findAllByItemIdAndStatusOrderByStartAsc(long itemId, BookingStatus status);
-}
\ No newline at end of file
+    @Query("SELECT MIN(CASE WHEN b.start > :now THEN b.start ELSE b.end END) FROM Booking b " +
+            "WHERE b.booker.id = :bookerId AND b.end > :now")
+    LocalDateTime findNextBoundaryByBookerId(@Param("bookerId") long bookerId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT MIN(CASE WHEN b.start > :now THEN b.start ELSE b.end END) FROM Booking b " +
+            "JOIN b.item i WHERE i.owner.id = :ownerId AND b.end > :now")
+    LocalDateTime findNextBoundaryByItemOwnerId(@Param("ownerId") long ownerId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id = :itemId AND b.status = :status ORDER BY b.start")
+    List<Booking> findAllByItemIdAndStatusOrderByStartAsc(@Param("itemId") long itemId,
+                                                          @Param("status") BookingStatus status);
+
+    @Query("SELECT DISTINCT b.item.id FROM Booking b " +
+            "WHERE b.item.id IN :itemIds AND b.status = :status AND b.start < :end AND b.end > :start")
+    List<Long> findItemIdsBookedBetween(@Param("itemIds") Collection<Long> itemIds,
+                                        @Param("status") BookingStatus status, @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.status = :status ORDER BY b.start")
+    List<Booking> findAllByItemIdInAndStatusOrderByStartAsc(@Param("itemIds") Collection<Long> itemIds,
+                                                            @Param("status") BookingStatus status);
+
+    @Query("SELECT DISTINCT b.booker.id FROM Booking b WHERE b.item.id = :itemId")
+    List<Long> findBookerIdsByItemId(@Param("itemId") long itemId);
+
+    @Query("SELECT DISTINCT b.item.owner.id FROM Booking b WHERE b.booker.id = :bookerId")
+    List<Long> findItemOwnerIdsByBookerId(@Param("bookerId") long bookerId);
+
+    @Query("SELECT DISTINCT b.item.id FROM Booking b WHERE b.booker.id = :bookerId")
+    List<Long> findItemIdsByBookerId(@Param("bookerId") long bookerId);
+}
@@ -2,12 +2,16 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.pagination.CursorPage;
 
 import java.util.List;
 
 public interface BookingService {
     Booking create(BookingDto bookingDto, long userId);
 
+    List<BatchResult<Booking>> createAll(List<BookingDto> bookingDtos, long userId);
+
     Booking update(long ownerId, long bookingId, boolean approved);
 
     Booking getById(long bookingId, long userId);
@@ -15,4 +19,8 @@ public interface BookingService {
     List<Booking> getBookingsByBookerId(long bookerId, BookingState state, Pageable pageable);
 
     List<Booking> getItemBookingsByOwnerId(long ownerId, BookingState state, Pageable pageable);
+
+    CursorPage<Booking> getBookingsByBookerId(long bookerId, BookingState state, String cursor, int size);
+
+    CursorPage<Booking> getItemBookingsByOwnerId(long ownerId, BookingState state, String cursor, int size);
 }
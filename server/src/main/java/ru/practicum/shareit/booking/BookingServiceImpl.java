@@ -6,17 +6,37 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.common.batch.BatchCollector;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.NegativeCache;
 import ru.practicum.shareit.common.exception.BookingException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
 import ru.practicum.shareit.common.exception.SelfItemBookingException;
-import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.common.transaction.AfterRollback;
 import ru.practicum.shareit.item.Item;
-import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.ItemOwnerView;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.comment.CommentMapper;
+import ru.practicum.shareit.item.comment.CommentService;
+import ru.practicum.shareit.item.view.ItemViewCache;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,15 +46,86 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final UserService userService;
-    private final ItemService itemService;
-    private final ItemMapper itemMapper;
+    private final ItemRepository itemRepository;
+    private final BookingTimelineIndex bookingTimelineIndex;
+    private final ItemViewCache itemViewCache;
+    private final BookingListCache bookingListCache;
+    private final NegativeCache negativeCache;
+    private final CommentService commentService;
+    private final CommentMapper commentMapper;
 
     @Override
     @Transactional
     public Booking create(BookingDto bookingDto, long userId) {
         User booker = userService.get(userId);
-        Item item = itemMapper.transformItemDtoToItem(itemService.get(bookingDto.getItemId(), userId));
+        Item item = toItem(getItemOwnerView(bookingDto.getItemId()));
+        Booking booking = prepareBooking(bookingDto, userId, booker, item);
 
+        Booking savedBooking = bookingRepository.save(booking);
+        negativeCache.forget(NegativeCache.Type.BOOKING, savedBooking.getId());
+        bookingListCache.evict(userId, item.getOwner().getId());
+
+        attachComments(List.of(item));
+        return toResponse(savedBooking, item);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResult<Booking>> createAll(List<BookingDto> bookingDtos, long userId) {
+        User booker = userService.get(userId);
+        Map<Long, Item> items = itemRepository.findOwnerViewsByIdIn(bookingDtos.stream()
+                        .map(BookingDto::getItemId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(this::toItem)
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        BatchCollector<Booking> batch = BatchCollector.prepare(bookingDtos, bookingDto -> {
+            Item item = items.get(bookingDto.getItemId());
+            if (item == null) {
+                log.error("Server: Предмет с ID {} не найден!", bookingDto.getItemId());
+                throw new ObjectNotFoundException("Предмет", bookingDto.getItemId());
+            }
+            return prepareBooking(bookingDto, userId, booker, item);
+        });
+
+        List<Booking> savedBookings = bookingRepository.saveAll(batch.getAccepted());
+        negativeCache.forgetAll(NegativeCache.Type.BOOKING, savedBookings.stream()
+                .map(Booking::getId)
+                .collect(Collectors.toList()));
+        savedBookings.stream()
+                .map(booking -> items.get(booking.getItem().getId()).getOwner().getId())
+                .distinct()
+                .forEach(ownerId -> bookingListCache.evict(userId, ownerId));
+
+        attachComments(savedBookings.stream()
+                .map(booking -> items.get(booking.getItem().getId()))
+                .distinct()
+                .collect(Collectors.toList()));
+
+        return batch.toResults(booking -> toResponse(booking, items.get(booking.getItem().getId())));
+    }
+
+    private void attachComments(List<Item> items) {
+        Map<Long, List<CommentDto>> commentsByItemId = new HashMap<>();
+        items.forEach(item -> itemViewCache.findComments(item.getId())
+                .ifPresent(comments -> commentsByItemId.put(item.getId(), comments)));
+
+        Set<Long> missing = items.stream()
+                .map(Item::getId)
+                .filter(itemId -> !commentsByItemId.containsKey(itemId))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            commentService.findAllByItemIdIn(missing).forEach(comment -> commentsByItemId
+                    .computeIfAbsent(comment.getItem().getId(), itemId -> new ArrayList<>())
+                    .add(commentMapper.transformCommentToCommentDto(comment)));
+        }
+
+        items.forEach(item -> item.setComments(commentsByItemId.getOrDefault(item.getId(),
+                Collections.emptyList())));
+    }
+
+    private Booking prepareBooking(BookingDto bookingDto, long userId, User booker, Item item) {
         boolean isAvailable = item.getAvailable();
         if (!isAvailable) {
             log.error("Server: Вещь {} сейчас недоступна!", item.getName());
@@ -56,11 +147,49 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingException("Ошибка бронирования! Неверно указаны даты!");
         }
 
+        bookingTimelineIndex.findConflict(item.getId(), booking.getStart(), booking.getEnd())
+                .ifPresent(conflictId -> {
+                    throw datesAlreadyBooked(item, conflictId);
+                });
+
         booking.setStatus(BookingStatus.WAITING);
         booking.setBooker(booker);
-        booking.setItem(item);
+        booking.setItem(itemRepository.getReferenceById(item.getId()));
+
+        return booking;
+    }
 
-        return bookingRepository.save(booking);
+    private Item toItem(ItemOwnerView itemView) {
+        return Item.builder()
+                .id(itemView.getId())
+                .name(itemView.getName())
+                .description(itemView.getDescription())
+                .available(itemView.getAvailable())
+                .owner(new User(itemView.getOwnerId(), itemView.getOwnerName(), itemView.getOwnerEmail()))
+                .build();
+    }
+
+    private static Booking toResponse(Booking booking, Item item) {
+        return Booking.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .item(item)
+                .booker(booking.getBooker())
+                .status(booking.getStatus())
+                .build();
+    }
+
+    private ItemOwnerView getItemOwnerView(long itemId) {
+        if (negativeCache.isMissing(NegativeCache.Type.ITEM, itemId)) {
+            throw new ObjectNotFoundException("Предмет", itemId);
+        }
+
+        return itemRepository.findOwnerViewById(itemId).orElseThrow(() -> {
+            log.error("Server: Предмет с ID {} не найден!", itemId);
+            negativeCache.markMissing(NegativeCache.Type.ITEM, itemId);
+            return new ObjectNotFoundException("Предмет", itemId);
+        });
     }
 
     @Override
@@ -88,16 +217,26 @@ public class BookingServiceImpl implements BookingService {
         }
 
         BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        if (approved) {
+            reserve(booking);
+        }
         booking.setStatus(status);
+        itemViewCache.evict(booking.getItem().getId());
+        bookingListCache.evict(booking.getBooker().getId(), ownerId);
 
         return booking;
     }
 
     @Override
     public Booking getById(long bookingId, long userId) {
+        if (negativeCache.isMissing(NegativeCache.Type.BOOKING, bookingId)) {
+            throw new ObjectNotFoundException("Бронирование", bookingId);
+        }
+
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> {
                     log.error("Server: Бронирование с ID {} не найдено!", bookingId);
+                    negativeCache.markMissing(NegativeCache.Type.BOOKING, bookingId);
                     return new ObjectNotFoundException("Бронирование", bookingId);
                 });
 
@@ -114,8 +253,17 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getBookingsByBookerId(long bookerId, BookingState state, Pageable pageable) {
-        userService.get(bookerId);
+        userService.checkExists(bookerId);
 
+        return bookingListCache.get(BookingListCache.Role.BOOKER, bookerId, state, pageable, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Booking> bookings = findBookerBookings(bookerId, state, pageable);
+            return new BookingListCache.Entry(bookings, validUntil(state, bookings,
+                    () -> bookingRepository.findNextBoundaryByBookerId(bookerId, now)));
+        });
+    }
+
+    private List<Booking> findBookerBookings(long bookerId, BookingState state, Pageable pageable) {
         switch (state) {
             case CURRENT:
                 return bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(
@@ -139,8 +287,17 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getItemBookingsByOwnerId(long ownerId, BookingState state, Pageable pageable) {
-        userService.get(ownerId);
+        userService.checkExists(ownerId);
+
+        return bookingListCache.get(BookingListCache.Role.OWNER, ownerId, state, pageable, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Booking> bookings = findOwnerBookings(ownerId, state, pageable);
+            return new BookingListCache.Entry(bookings, validUntil(state, bookings,
+                    () -> bookingRepository.findNextBoundaryByItemOwnerId(ownerId, now)));
+        });
+    }
 
+    private List<Booking> findOwnerBookings(long ownerId, BookingState state, Pageable pageable) {
         switch (state) {
             case CURRENT:
                 return bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
@@ -161,4 +318,103 @@ public class BookingServiceImpl implements BookingService {
                 return bookingRepository.findAllByItemOwnerIdOrderByStartDesc(ownerId, pageable);
         }
     }
+
+    @Override
+    public CursorPage<Booking> getBookingsByBookerId(long bookerId, BookingState state, String cursor, int size) {
+        userService.checkExists(bookerId);
+
+        return CursorPage.of(findBookerBookings(bookerId, state, Cursor.descending(cursor),
+                Pagination.firstRows(size + 1)), size, this::toCursor);
+    }
+
+    private List<Booking> findBookerBookings(long bookerId, BookingState state, Cursor position, Pageable pageable) {
+        LocalDateTime start = position.getPosition();
+        long id = position.getId();
+        switch (state) {
+            case CURRENT:
+                return bookingRepository.findCurrentByBookerIdBeforeKeyset(bookerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case PAST:
+                return bookingRepository.findPastByBookerIdBeforeKeyset(bookerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case FUTURE:
+                return bookingRepository.findFutureByBookerIdBeforeKeyset(bookerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case WAITING:
+                return bookingRepository.findAllByBookerIdAndStatusBeforeKeyset(bookerId, BookingStatus.WAITING,
+                        start, id, pageable);
+            case REJECTED:
+                return bookingRepository.findAllByBookerIdAndStatusBeforeKeyset(bookerId, BookingStatus.REJECTED,
+                        start, id, pageable);
+            default:
+                return bookingRepository.findAllByBookerIdBeforeKeyset(bookerId, start, id, pageable);
+        }
+    }
+
+    @Override
+    public CursorPage<Booking> getItemBookingsByOwnerId(long ownerId, BookingState state, String cursor, int size) {
+        userService.checkExists(ownerId);
+
+        return CursorPage.of(findOwnerBookings(ownerId, state, Cursor.descending(cursor),
+                Pagination.firstRows(size + 1)), size, this::toCursor);
+    }
+
+    private List<Booking> findOwnerBookings(long ownerId, BookingState state, Cursor position, Pageable pageable) {
+        LocalDateTime start = position.getPosition();
+        long id = position.getId();
+        switch (state) {
+            case CURRENT:
+                return bookingRepository.findCurrentByItemOwnerIdBeforeKeyset(ownerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case PAST:
+                return bookingRepository.findPastByItemOwnerIdBeforeKeyset(ownerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case FUTURE:
+                return bookingRepository.findFutureByItemOwnerIdBeforeKeyset(ownerId, LocalDateTime.now(), start, id,
+                        pageable);
+            case WAITING:
+                return bookingRepository.findAllByItemOwnerIdAndStatusBeforeKeyset(ownerId, BookingStatus.WAITING,
+                        start, id, pageable);
+            case REJECTED:
+                return bookingRepository.findAllByItemOwnerIdAndStatusBeforeKeyset(ownerId, BookingStatus.REJECTED,
+                        start, id, pageable);
+            default:
+                return bookingRepository.findAllByItemOwnerIdBeforeKeyset(ownerId, start, id, pageable);
+        }
+    }
+
+    private void reserve(Booking booking) {
+        Item item = booking.getItem();
+        bookingTimelineIndex.reserve(item.getId(), booking.getId(), booking.getStart(), booking.getEnd())
+                .ifPresent(conflictId -> {
+                    throw datesAlreadyBooked(item, conflictId);
+                });
+        AfterRollback.run(() -> bookingTimelineIndex.release(item.getId(), booking.getId()));
+    }
+
+    private BookingException datesAlreadyBooked(Item item, long conflictId) {
+        log.error("Server: Вещь {} уже забронирована на указанные даты, бронирование с ID {}", item.getName(),
+                conflictId);
+        return new BookingException(String.format("Вещь %s уже забронирована на указанные даты!", item.getName()));
+    }
+
+    private LocalDateTime validUntil(BookingState state, List<Booking> bookings,
+                                     Supplier<LocalDateTime> nextBoundary) {
+        switch (state) {
+            case CURRENT:
+            case PAST:
+                return nextBoundary.get();
+            case FUTURE:
+                return bookings.stream()
+                        .map(Booking::getStart)
+                        .min(Comparator.naturalOrder())
+                        .orElse(null);
+            default:
+                return null;
+        }
+    }
+
+    private String toCursor(Booking booking) {
+        return Cursor.encode(booking.getStart(), booking.getId());
+    }
 }
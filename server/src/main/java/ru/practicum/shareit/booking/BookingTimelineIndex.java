@@ -0,0 +1,125 @@
+package ru.practicum.shareit.booking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+@Slf4j
+@Component
+public class BookingTimelineIndex {
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, ItemTimeline> timelines;
+
+    public BookingTimelineIndex(BookingRepository bookingRepository,
+                                @Value("${shareit-server.booking-timeline.item-size:10000}") long itemSize) {
+        this.bookingRepository = bookingRepository;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(itemSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public Optional<Long> findConflict(long itemId, LocalDateTime start, LocalDateTime end) {
+        return timeline(itemId).findConflict(start, end);
+    }
+
+    public Optional<Long> reserve(long itemId, long bookingId, LocalDateTime start, LocalDateTime end) {
+        return timeline(itemId).reserve(new Reservation(bookingId, start, end));
+    }
+
+    public void release(long itemId, long bookingId) {
+        ItemTimeline timeline = timelines.getIfPresent(itemId);
+        if (timeline != null) {
+            timeline.release(bookingId);
+        }
+    }
+
+    public void remove(long itemId) {
+        timelines.invalidate(itemId);
+    }
+
+    private ItemTimeline timeline(long itemId) {
+        return timelines.get(itemId, this::load);
+    }
+
+    private ItemTimeline load(long itemId) {
+        LocalDateTime now = LocalDateTime.now();
+        ItemTimeline loaded = new ItemTimeline();
+        bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(itemId, BookingStatus.APPROVED).stream()
+                .filter(booking -> booking.getEnd().isAfter(now))
+                .forEach(booking -> loaded.add(new Reservation(booking.getId(), booking.getStart(), booking.getEnd())));
+        log.debug("Server: Загружено подтверждённых бронирований вещи с ID {}: {}", itemId, loaded.size());
+
+        return loaded;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Reservation {
+        private final long bookingId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+    }
+
+    private static class ItemTimeline {
+        private final NavigableSet<Reservation> reservations = new TreeSet<>(
+                Comparator.comparing(Reservation::getStart).thenComparingLong(Reservation::getBookingId));
+        private Duration longest = Duration.ZERO;
+
+        private synchronized Optional<Long> findConflict(LocalDateTime start, LocalDateTime end) {
+            for (Reservation reservation : reservations.headSet(new Reservation(Long.MIN_VALUE, end, end), false)
+                    .descendingSet()) {
+                if (reservation.getEnd().isAfter(start)) {
+                    return Optional.of(reservation.getBookingId());
+                }
+                if (!reservation.getStart().plus(longest).isAfter(start)) {
+                    break;
+                }
+            }
+
+            return Optional.empty();
+        }
+
+        private synchronized Optional<Long> reserve(Reservation reservation) {
+            Optional<Long> conflict = findConflict(reservation.getStart(), reservation.getEnd())
+                    .filter(bookingId -> bookingId != reservation.getBookingId());
+            if (conflict.isEmpty()) {
+                prune(LocalDateTime.now());
+                add(reservation);
+            }
+            return conflict;
+        }
+
+        private synchronized void prune(LocalDateTime now) {
+            reservations.headSet(new Reservation(Long.MIN_VALUE, now, now))
+                    .removeIf(reservation -> !reservation.getEnd().isAfter(now));
+        }
+
+        private synchronized void add(Reservation reservation) {
+            reservations.add(reservation);
+            Duration duration = Duration.between(reservation.getStart(), reservation.getEnd());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+
+        private synchronized void release(long bookingId) {
+            reservations.removeIf(reservation -> reservation.getBookingId() == bookingId);
+        }
+
+        private synchronized int size() {
+            return reservations.size();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.common.batch;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchCollector<T> {
+    private final int size;
+    private final Map<Integer, T> accepted = new LinkedHashMap<>();
+    private final Map<Integer, BatchResult<?>> rejected = new HashMap<>();
+
+    public static <S, T> BatchCollector<T> prepare(List<S> elements, Function<S, T> preparer) {
+        BatchCollector<T> batch = new BatchCollector<>(elements.size());
+        for (int index = 0; index < elements.size(); index++) {
+            try {
+                batch.accepted.put(index, preparer.apply(elements.get(index)));
+            } catch (RuntimeException exception) {
+                batch.rejected.put(index, BatchResult.failed(index, exception));
+            }
+        }
+        return batch;
+    }
+
+    public Collection<T> getAccepted() {
+        return accepted.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> List<BatchResult<R>> toResults(Function<T, R> mapper) {
+        List<BatchResult<R>> results = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            T element = accepted.get(index);
+            results.add(element != null ? BatchResult.created(index, mapper.apply(element))
+                    : (BatchResult<R>) rejected.get(index));
+        }
+        return results;
+    }
+}
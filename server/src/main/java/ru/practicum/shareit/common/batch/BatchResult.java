@@ -0,0 +1,41 @@
+package ru.practicum.shareit.common.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import ru.practicum.shareit.common.exception.BookingException;
+import ru.practicum.shareit.common.exception.DuplicateEmailException;
+import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.exception.SelfItemBookingException;
+
+@Getter
+@AllArgsConstructor
+public class BatchResult<T> {
+    private final int index;
+    private final int status;
+    private final T body;
+    private final String error;
+
+    public static <T> BatchResult<T> created(int index, T body) {
+        return new BatchResult<>(index, HttpStatus.CREATED.value(), body, null);
+    }
+
+    public static <T> BatchResult<T> failed(int index, RuntimeException exception) {
+        HttpStatus status = statusOf(exception);
+        return new BatchResult<>(index, status.value(), null,
+                String.format("%d - %s", status.value(), exception.getMessage()));
+    }
+
+    private static HttpStatus statusOf(RuntimeException exception) {
+        if (exception instanceof ObjectNotFoundException || exception instanceof SelfItemBookingException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (exception instanceof DuplicateEmailException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (exception instanceof BookingException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        throw exception;
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String EXISTING_USER_IDS = "existingUserIds";
+    public static final String ITEM_VIEWS = "itemViews";
+    public static final String ITEM_OWNER_BOOKINGS = "itemOwnerBookings";
+    public static final String BOOKING_LISTS = "bookingLists";
+    public static final String BOOKING_LIST_VERSIONS = "bookingListVersions";
+    public static final String MISSING_IDS = "missingIds";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> missingIdsCacheCustomizer(
+            @Value("${shareit-server.missing-ids-ttl:30s}") Duration missingIdsTtl) {
+        return cacheManager -> cacheManager.registerCustomCache(MISSING_IDS, Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(missingIdsTtl)
+                .recordStats()
+                .build());
+    }
+}
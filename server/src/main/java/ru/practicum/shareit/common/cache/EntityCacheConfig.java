@@ -0,0 +1,67 @@
+package ru.practicum.shareit.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class EntityCacheConfig {
+    public static final String USER_REGION = "user";
+    public static final String ITEM_REGION = "item";
+    public static final String REQUEST_REGION = "request";
+    public static final String STATISTICS_PROPERTY = "shareit-server.entity-cache.statistics";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(@Value("${shareit-server.entity-cache.user-size:10000}") long userSize,
+                                           @Value("${shareit-server.entity-cache.item-size:10000}") long itemSize,
+                                           @Value("${shareit-server.entity-cache.request-size:10000}") long requestSize,
+                                           @Value("${shareit-server.entity-cache.query-size:1000}") long querySize) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("shareit:entity-cache:" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+
+        createRegion(cacheManager, USER_REGION, OptionalLong.of(userSize));
+        createRegion(cacheManager, ITEM_REGION, OptionalLong.of(itemSize));
+        createRegion(cacheManager, REQUEST_REGION, OptionalLong.of(requestSize));
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, OptionalLong.of(querySize));
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, OptionalLong.empty());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager,
+                                                               @Value("${" + STATISTICS_PROPERTY + ":false}")
+                                                               boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            if (statistics) {
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        cacheManager.createCache(name, configuration);
+    }
+}
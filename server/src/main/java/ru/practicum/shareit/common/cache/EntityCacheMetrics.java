@@ -0,0 +1,62 @@
+package ru.practicum.shareit.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.ToDoubleFunction;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = EntityCacheConfig.STATISTICS_PROPERTY, havingValue = "true")
+public class EntityCacheMetrics implements MeterBinder {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Tags tags = Tags.of("region", region);
+
+            FunctionCounter.builder("hibernate.second.level.cache.requests", statistics,
+                            regionStatistic(region, CacheRegionStatistics::getHitCount))
+                    .tags(tags.and("result", "hit"))
+                    .register(registry);
+            FunctionCounter.builder("hibernate.second.level.cache.requests", statistics,
+                            regionStatistic(region, CacheRegionStatistics::getMissCount))
+                    .tags(tags.and("result", "miss"))
+                    .register(registry);
+            FunctionCounter.builder("hibernate.second.level.cache.puts", statistics,
+                            regionStatistic(region, CacheRegionStatistics::getPutCount))
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                            regionStatistic(region, EntityCacheMetrics::hitRatio))
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    private static ToDoubleFunction<Statistics> regionStatistic(String region,
+                                                               ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics != null ? value.applyAsDouble(regionStatistics) : Double.NaN;
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests > 0 ? (double) statistics.getHitCount() / requests : Double.NaN;
+    }
+}
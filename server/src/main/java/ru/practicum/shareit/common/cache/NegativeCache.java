@@ -0,0 +1,57 @@
+package ru.practicum.shareit.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.transaction.AfterCommit;
+
+import java.util.Collection;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class NegativeCache {
+    private final CacheManager cacheManager;
+
+    public boolean isMissing(Type type, long id) {
+        return cache().get(new Key(type, id)) != null;
+    }
+
+    public void markMissing(Type type, long id) {
+        cache().put(new Key(type, id), Boolean.TRUE);
+    }
+
+    public void forget(Type type, long id) {
+        Runnable eviction = () -> cache().evict(new Key(type, id));
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    public void forgetAll(Type type, Collection<Long> ids) {
+        Runnable eviction = () -> ids.forEach(id -> cache().evict(new Key(type, id)));
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.MISSING_IDS));
+    }
+
+    public enum Type {
+        USER,
+        ITEM,
+        BOOKING
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final Type type;
+        private final long id;
+    }
+}
@@ -2,4 +2,5 @@ package ru.practicum.shareit.common.constants;
 
 public class HeaderConstants {
     public static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
 }
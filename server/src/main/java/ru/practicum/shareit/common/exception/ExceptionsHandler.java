@@ -7,14 +7,23 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+
 @Slf4j
 @RestControllerAdvice
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class ExceptionsHandler {
+    private final LogRateLimiter notFoundLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
     @ExceptionHandler({ObjectNotFoundException.class, SelfItemBookingException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public String handleObjectNotFoundAndSelfItemBookingException(RuntimeException exception) {
-        log.error("404 - {}", exception.getMessage());
+        long suppressed = notFoundLogLimiter.acquire();
+        if (suppressed > 0) {
+            log.error("404 - {} (пропущено аналогичных сообщений: {})", exception.getMessage(), suppressed);
+        } else if (suppressed == 0) {
+            log.error("404 - {}", exception.getMessage());
+        }
         return String.format("404 - %s", exception.getMessage());
     }
 
@@ -39,4 +48,18 @@ public class ExceptionsHandler {
         log.error("400 - {}", exception.getMessage());
         return String.format("400 - %s", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(PaginationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handlePaginationException(PaginationException exception) {
+        log.error("400 - {}", exception.getMessage());
+        return String.format("400 - %s", exception.getMessage());
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleValidationException(ValidationException exception) {
+        log.error("400 - {}", exception.getMessage());
+        return String.format("400 - %s", exception.getMessage());
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.common.exception;
+
+import java.time.Duration;
+
+class LogRateLimiter {
+    static final long SUPPRESSED = -1;
+
+    private final int limit;
+    private final long windowNanos;
+
+    private long windowStart;
+    private int logged;
+    private long suppressed;
+
+    LogRateLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.windowStart = System.nanoTime();
+    }
+
+    synchronized long acquire() {
+        long now = System.nanoTime();
+        if (now - windowStart >= windowNanos) {
+            windowStart = now;
+            logged = 0;
+        }
+
+        if (logged >= limit) {
+            suppressed++;
+            return SUPPRESSED;
+        }
+
+        logged++;
+        long skipped = suppressed;
+        suppressed = 0;
+        return skipped;
+    }
+}
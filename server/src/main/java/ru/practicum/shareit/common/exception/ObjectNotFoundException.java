@@ -1,7 +1,17 @@
 package ru.practicum.shareit.common.exception;
 
 public class ObjectNotFoundException extends RuntimeException {
+    private final String object;
+    private final long id;
+
     public ObjectNotFoundException(String object, long id) {
-        super(String.format("%s с ID: %s не найден!", object, id));
+        super(null, null, false, false);
+        this.object = object;
+        this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s с ID: %s не найден!", object, id);
     }
 }
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.common.exception;
+
+public class PaginationException extends RuntimeException {
+    public PaginationException(String message) {
+        super(message);
+    }
+}
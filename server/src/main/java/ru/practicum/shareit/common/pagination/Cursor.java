@@ -0,0 +1,70 @@
+package ru.practicum.shareit.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.common.exception.PaginationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    private static final String SEPARATOR = "|";
+    private static final LocalDateTime MAX_POSITION = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final LocalDateTime position;
+    private final long id;
+
+    public static Cursor descending(String token) {
+        if (token == null || token.isBlank()) {
+            return new Cursor(MAX_POSITION, Long.MAX_VALUE);
+        }
+
+        String[] parts = decode(token).split("\\" + SEPARATOR);
+        if (parts.length != 2) {
+            throw new PaginationException("Некорректный курсор: " + token);
+        }
+
+        try {
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new PaginationException("Некорректный курсор: " + token);
+        }
+    }
+
+    public static Cursor ascending(String token) {
+        if (token == null || token.isBlank()) {
+            return new Cursor(null, 0L);
+        }
+
+        try {
+            return new Cursor(null, Long.parseLong(decode(token)));
+        } catch (NumberFormatException e) {
+            throw new PaginationException("Некорректный курсор: " + token);
+        }
+    }
+
+    public static String encode(LocalDateTime position, long id) {
+        return encode(position + SEPARATOR + id);
+    }
+
+    public static String encode(long id) {
+        return encode(String.valueOf(id));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new PaginationException("Некорректный курсор: " + token);
+        }
+    }
+}
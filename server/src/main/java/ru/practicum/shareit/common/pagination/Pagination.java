@@ -4,14 +4,45 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.exception.PaginationException;
+
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Pagination {
+    public static final int MAX_PAGE_SIZE = 20;
+    public static final int MAX_LOOKUP_SIZE = 100;
+
     public static Pageable splitByPages(Integer from, Integer size) {
         if (from == null || size == null) {
-            return null;
+            return firstRows(MAX_PAGE_SIZE);
+        }
+
+        int pageSize = limitPageSize(size);
+        return PageRequest.of(from / pageSize, pageSize);
+    }
+
+    public static int limitPageSize(Integer size) {
+        if (size == null) {
+            return MAX_PAGE_SIZE;
+        }
+
+        if (size < 1) {
+            throw new PaginationException("Минимальное количество элементов: 1");
         }
 
-        return PageRequest.of(from / size, size);
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    public static <T> List<T> limitLookupSize(List<T> ids) {
+        if (ids.size() > MAX_LOOKUP_SIZE) {
+            throw new PaginationException("Максимальное количество элементов: " + MAX_LOOKUP_SIZE);
+        }
+
+        return ids;
+    }
+
+    public static Pageable firstRows(int count) {
+        return PageRequest.of(0, count);
     }
 }
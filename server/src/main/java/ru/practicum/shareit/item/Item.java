@@ -1,7 +1,10 @@
 package ru.practicum.shareit.item;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.booking.dto.BookingDatesDto;
+import ru.practicum.shareit.common.cache.EntityCacheConfig;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.user.User;
@@ -13,19 +16,25 @@ import java.util.List;
 @Builder
 @Table(name = "items")
 @Entity
+@NamedEntityGraph(name = Item.WITH_OWNER, attributeNodes = @NamedAttributeNode("owner"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.ITEM_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Item {
+    public static final String WITH_OWNER = "Item.withOwner";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
     private Boolean available;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     private User owner;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
     private Request request;
 
@@ -2,13 +2,25 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.exception.ValidationException;
 import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.feed.ItemFeedFormat;
+import ru.practicum.shareit.item.feed.ItemFeedImporter;
+import ru.practicum.shareit.item.search.SearchMode;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static ru.practicum.shareit.common.constants.HeaderConstants.HEADER_USER_ID;
@@ -20,6 +32,7 @@ import static ru.practicum.shareit.common.constants.HeaderConstants.HEADER_USER_
 @RequestMapping("/items")
 public class ItemController {
     private final ItemService itemService;
+    private final ItemFeedImporter itemFeedImporter;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -29,6 +42,30 @@ public class ItemController {
         return itemService.create(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public List<BatchResult<ItemDto>> createAll(@RequestHeader(HEADER_USER_ID) long userId,
+                                                @RequestBody List<ItemDto> itemDtos) {
+        log.info("Server: Запрос на создание {} предметов для пользователя с id {}", itemDtos.size(), userId);
+        return itemService.createAll(userId, itemDtos);
+    }
+
+    @PostMapping(value = "/import", consumes = {ItemFeedFormat.NDJSON_VALUE, ItemFeedFormat.CSV_VALUE},
+            produces = ItemFeedFormat.NDJSON_VALUE)
+    public void importItems(@RequestHeader(HEADER_USER_ID) long userId, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        ItemFeedFormat format = ItemFeedFormat.from(request.getContentType()).orElseThrow(() -> {
+            log.error("Server: Неподдерживаемый формат импорта предметов: {}", request.getContentType());
+            return new ValidationException(String.format("Неподдерживаемый формат импорта: %s",
+                    request.getContentType()));
+        });
+        log.info("Server: Запрос на импорт предметов в формате {} для пользователя с id {}", format, userId);
+
+        response.setContentType(ItemFeedFormat.NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        itemFeedImporter.importItems(userId, format, request.getInputStream(), response.getOutputStream());
+    }
+
     @PostMapping("/{itemId}/comment")
     @ResponseStatus(HttpStatus.OK)
     public CommentDto comment(@RequestHeader(HEADER_USER_ID) long userId,
@@ -53,6 +90,13 @@ public class ItemController {
         return itemService.get(id, userId);
     }
 
+    @GetMapping(params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ItemDto> getAll(@RequestParam(value = "ids") List<Long> ids) {
+        log.info("Server: Запрос на получение {} предметов по ID", ids.size());
+        return itemService.getAll(Pagination.limitLookupSize(ids));
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<ItemDto> getByUserId(@RequestHeader(HEADER_USER_ID) long userId,
@@ -62,13 +106,44 @@ public class ItemController {
         return itemService.getByUserId(userId, Pagination.splitByPages(from, size));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<ItemDto>> getByUserId(@RequestHeader(HEADER_USER_ID) long userId,
+                                                     @RequestParam(value = "cursor") String cursor,
+                                                     @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение предметов пользователя по ID: {} с курсором {}", userId, cursor);
+        return itemService.getByUserId(userId, cursor, Pagination.limitPageSize(size)).toResponse();
+    }
+
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
     public List<ItemDto> getBySearchText(@RequestParam(required = false) String text,
+                                         @RequestParam(name = "mode", defaultValue = "PREFIX") SearchMode mode,
                                          @RequestParam(value = "from", required = false) Integer from,
                                          @RequestParam(value = "size", required = false) Integer size) {
-        log.info("Server: Запрос на получение предметов по поисковому запросу: {}", text);
-        return itemService.getBySearchText(text, Pagination.splitByPages(from, size));
+        log.info("Server: Запрос на получение предметов по поисковому запросу: {}, режим поиска: {}", text, mode);
+        return itemService.getBySearchText(text, mode, Pagination.splitByPages(from, size));
+    }
+
+    @GetMapping("/available")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ItemDto> getAvailable(@RequestParam(required = false) String text,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                      LocalDateTime start,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                      LocalDateTime end,
+                                      @RequestParam(value = "from", required = false) Integer from,
+                                      @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение свободных предметов с {} по {} по поисковому запросу: {}", start, end,
+                text);
+        return itemService.getAvailable(text, start, end, Pagination.splitByPages(from, size));
+    }
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public List<String> getSuggestions(@RequestParam(required = false) String prefix,
+                                       @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение подсказок для названий предметов по префиксу: {}", prefix);
+        return itemService.getSuggestions(prefix, Pagination.limitPageSize(size));
     }
 
     @DeleteMapping("/{id}")
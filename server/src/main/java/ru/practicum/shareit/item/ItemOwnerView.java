@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item;
+
+public interface ItemOwnerView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+
+    Long getOwnerId();
+
+    String getOwnerName();
+
+    String getOwnerEmail();
+}
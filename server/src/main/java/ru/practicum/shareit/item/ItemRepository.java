@@ -1,20 +1,85 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.search.ItemSearchView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findAllByOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
+    @Override
+    @EntityGraph(Item.WITH_OWNER)
+    Optional<Item> findById(Long id);
 
+    @Override
+    @EntityGraph(Item.WITH_OWNER)
+    List<Item> findAllById(Iterable<Long> ids);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description, i.available AS available, " +
+            "o.id AS ownerId, o.name AS ownerName, o.email AS ownerEmail " +
+            "FROM Item i JOIN i.owner o WHERE i.id = :id")
+    Optional<ItemOwnerView> findOwnerViewById(@Param("id") long id);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description, i.available AS available, " +
+            "o.id AS ownerId, o.name AS ownerName, o.email AS ownerEmail " +
+            "FROM Item i JOIN i.owner o WHERE i.id IN :ids")
+    List<ItemOwnerView> findOwnerViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i WHERE i.owner.id = :ownerId ORDER BY i.id")
+    List<Item> findAllByOwnerIdOrderByIdAsc(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query("SELECT i.id FROM Item i WHERE i.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") long ownerId);
+
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i WHERE i.owner.id = :ownerId AND i.id > :id ORDER BY i.id")
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(@Param("ownerId") long ownerId, @Param("id") long id,
+                                                            Pageable pageable);
+
+    @EntityGraph(Item.WITH_OWNER)
     @Query("SELECT i FROM Item i " +
-            "WHERE UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
-            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%'))" +
-            "AND i.available IS TRUE")
+            "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
+            "AND i.available IS TRUE " +
+            "ORDER BY i.id")
     List<Item> findAllByText(@Param("text") String text, Pageable pageable);
 
-    List<Item> findAllByRequestId(long requestId);
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.available IS TRUE " +
+            "AND NOT EXISTS (SELECT b.id FROM Booking b " +
+            "WHERE b.item = i AND b.status = :status AND b.start < :end AND b.end > :start) " +
+            "ORDER BY i.id")
+    List<Item> findAllFreeBetween(@Param("status") BookingStatus status, @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i " +
+            "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
+            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
+            "AND i.available IS TRUE " +
+            "AND NOT EXISTS (SELECT b.id FROM Booking b " +
+            "WHERE b.item = i AND b.status = :status AND b.start < :end AND b.end > :start) " +
+            "ORDER BY i.id")
+    List<Item> findAllByTextFreeBetween(@Param("text") String text, @Param("status") BookingStatus status,
+                                        @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                        Pageable pageable);
+
+    List<ItemSearchView> findAllByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i WHERE i.request.id = :requestId")
+    List<Item> findAllByRequestId(@Param("requestId") long requestId);
+
+    @EntityGraph(Item.WITH_OWNER)
+    @Query("SELECT i FROM Item i WHERE i.request.id IN :requestIds")
+    List<Item> findAllByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
 }
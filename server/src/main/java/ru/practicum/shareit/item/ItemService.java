@@ -1,23 +1,38 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.pagination.CursorPage;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.SearchMode;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemService {
     ItemDto create(long userId, ItemDto itemDto);
 
+    List<BatchResult<ItemDto>> createAll(long userId, List<ItemDto> itemDtos);
+
     ItemDto update(long itemId, long userId, ItemDto itemDto);
 
     CommentDto comment(long userId, long itemId, CommentDto commentDto);
 
     ItemDto get(long itemId, long userId);
 
+    List<ItemDto> getAll(Collection<Long> itemIds);
+
     List<ItemDto> getByUserId(long userId, Pageable pageable);
 
-    List<ItemDto> getBySearchText(String text, Pageable pageable);
+    CursorPage<ItemDto> getByUserId(long userId, String cursor, int size);
+
+    List<ItemDto> getBySearchText(String text, SearchMode mode, Pageable pageable);
+
+    List<ItemDto> getAvailable(String text, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    List<String> getSuggestions(String prefix, int size);
 
     void delete(long id);
 }
@@ -6,24 +6,46 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.BookingListCache;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingTimelineIndex;
 import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.comment.CommentMapper;
 import ru.practicum.shareit.item.comment.CommentService;
+import ru.practicum.shareit.common.batch.BatchCollector;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.NegativeCache;
 import ru.practicum.shareit.common.exception.BookingException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.common.transaction.AfterCommit;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.SearchMode;
+import ru.practicum.shareit.item.view.ItemViewCache;
+import ru.practicum.shareit.item.view.OwnerBookings;
+import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.request.RequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,14 +53,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
+    private static final int AVAILABILITY_BATCH_SIZE = 1000;
+
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
     private final UserService userService;
     private final BookingRepository bookingRepository;
+    private final BookingTimelineIndex bookingTimelineIndex;
     private final BookingMapper bookingMapper;
     private final CommentMapper commentMapper;
     private final CommentService commentService;
     private final RequestRepository requestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemViewCache itemViewCache;
+    private final BookingListCache bookingListCache;
+    private final NegativeCache negativeCache;
 
     @Override
     @Transactional
@@ -54,7 +83,46 @@ public class ItemServiceImpl implements ItemService {
             });
         }
 
-        return itemMapper.transformItemToItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        negativeCache.forget(NegativeCache.Type.ITEM, savedItem.getId());
+        AfterCommit.run(() -> itemSearchIndex.index(savedItem));
+
+        return itemMapper.transformItemToItemDto(savedItem);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResult<ItemDto>> createAll(long userId, List<ItemDto> itemDtos) {
+        User user = userService.get(userId);
+        Map<Long, Request> requests = requestRepository.findAllById(itemDtos.stream()
+                        .map(ItemDto::getRequestId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        BatchCollector<Item> batch = BatchCollector.prepare(itemDtos, itemDto -> {
+            Item item = itemMapper.transformItemDtoToItem(itemDto);
+            item.setOwner(user);
+
+            if (itemDto.getRequestId() != null) {
+                Request request = requests.get(itemDto.getRequestId());
+                if (request == null) {
+                    log.error("Server: Запрос с ID {} не найден!", itemDto.getRequestId());
+                    throw new ObjectNotFoundException("Запрос", itemDto.getRequestId());
+                }
+                item.setRequest(request);
+            }
+            return item;
+        });
+
+        List<Item> savedItems = itemRepository.saveAll(batch.getAccepted());
+        negativeCache.forgetAll(NegativeCache.Type.ITEM, savedItems.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
+        AfterCommit.run(() -> savedItems.forEach(itemSearchIndex::index));
+
+        return batch.toResults(itemMapper::transformItemToItemDto);
     }
 
     @Override
@@ -84,6 +152,11 @@ public class ItemServiceImpl implements ItemService {
             item.setAvailable(itemDto.getAvailable());
         }
 
+        AfterCommit.run(() -> itemSearchIndex.index(item));
+        itemViewCache.evict(itemId);
+        bookingListCache.evictUsers(BookingListCache.Role.OWNER, List.of(userId));
+        bookingListCache.evictUsers(BookingListCache.Role.BOOKER, bookingRepository.findBookerIdsByItemId(itemId));
+
         return itemMapper.transformItemToItemDto(item);
     }
 
@@ -109,24 +182,53 @@ public class ItemServiceImpl implements ItemService {
         comment.setItem(item);
         comment.setCreated(LocalDateTime.now());
 
-        return commentMapper.transformCommentToCommentDto(commentService.createComment(comment));
+        Comment created = commentService.createComment(comment);
+        itemViewCache.evict(itemId);
+
+        return commentMapper.transformCommentToCommentDto(created);
     }
 
     @Override
     public ItemDto get(long itemId, long userId) {
+        return withOwnerBookings(itemViewCache.getItem(itemId, () -> loadItemView(itemId)), userId);
+    }
+
+    @Override
+    public List<ItemDto> getAll(Collection<Long> itemIds) {
+        Map<Long, ItemDto> views = itemViewCache.getItems(itemIds, this::loadItemViews);
+
+        return itemIds.stream()
+                .distinct()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(this::withOwnerBookings)
+                .collect(Collectors.toList());
+    }
+
+    private ItemDto withOwnerBookings(ItemDto itemDto, long userId) {
+        return itemDto.getOwner().getId() == userId ? withOwnerBookings(itemDto) : itemDto;
+    }
+
+    private ItemDto withOwnerBookings(ItemDto itemDto) {
+        OwnerBookings bookings = itemViewCache.getOwnerBookings(itemDto.getId(),
+                () -> loadOwnerBookings(itemDto.getId()));
+        itemDto.setLastBooking(bookings.getLastBooking());
+        itemDto.setNextBooking(bookings.getNextBooking());
+
+        return itemDto;
+    }
+
+    private ItemDto loadItemView(long itemId) {
+        if (negativeCache.isMissing(NegativeCache.Type.ITEM, itemId)) {
+            throw new ObjectNotFoundException("Предмет", itemId);
+        }
+
         Item item = itemRepository.findById(itemId).orElseThrow(() -> {
             log.error("Server: Предмет с ID {} не найден!", itemId);
+            negativeCache.markMissing(NegativeCache.Type.ITEM, itemId);
             return new ObjectNotFoundException("Предмет", itemId);
         });
 
-        if (item.getOwner().getId() == userId) {
-            List<Booking> bookingList = bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(itemId,
-                    BookingStatus.APPROVED);
-
-            item.setLastBooking(bookingMapper.transformBookingToBookingDto(getLastBooking(bookingList)));
-            item.setNextBooking(bookingMapper.transformBookingToBookingDto(getNextBooking(bookingList)));
-        }
-
         item.setComments(commentService.findAllByItemId(itemId)
                 .stream().map(commentMapper::transformCommentToCommentDto)
                 .collect(Collectors.toList()));
@@ -134,6 +236,46 @@ public class ItemServiceImpl implements ItemService {
         return itemMapper.transformItemToItemDto(item);
     }
 
+    private Map<Long, ItemDto> loadItemViews(Set<Long> itemIds) {
+        List<Long> candidates = itemIds.stream()
+                .filter(itemId -> !negativeCache.isMissing(NegativeCache.Type.ITEM, itemId))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) return Collections.emptyMap();
+
+        List<Item> items = itemRepository.findAllById(candidates);
+        Map<Long, List<CommentDto>> commentsByItemId = findCommentsByItemId(candidates);
+
+        Map<Long, ItemDto> views = new HashMap<>();
+        for (Item item : items) {
+            ItemDto itemDto = itemMapper.transformItemToItemDto(item);
+            itemDto.setComments(commentsByItemId.getOrDefault(item.getId(), Collections.emptyList()));
+            views.put(item.getId(), itemDto);
+        }
+
+        candidates.stream()
+                .filter(itemId -> !views.containsKey(itemId))
+                .forEach(itemId -> negativeCache.markMissing(NegativeCache.Type.ITEM, itemId));
+
+        return views;
+    }
+
+    private Map<Long, List<CommentDto>> findCommentsByItemId(Collection<Long> itemIds) {
+        return commentService.findAllByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::transformCommentToCommentDto, Collectors.toList())));
+    }
+
+    private OwnerBookings loadOwnerBookings(long itemId) {
+        List<Booking> bookingList = bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(itemId,
+                BookingStatus.APPROVED);
+        Booking nextBooking = getNextBooking(bookingList);
+
+        return new OwnerBookings(bookingMapper.transformBookingToBookingDto(getLastBooking(bookingList)),
+                bookingMapper.transformBookingToBookingDto(nextBooking),
+                nextBooking != null ? nextBooking.getStart() : null);
+    }
+
     private Booking getNextBooking(List<Booking> bookingList) {
         return bookingList.stream()
                 .filter(booking -> booking.getStart().isAfter(LocalDateTime.now()))
@@ -150,33 +292,128 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public List<ItemDto> getByUserId(long userId, Pageable pageable) {
-        return itemRepository.findAllByOwnerIdOrderByIdAsc(userId, pageable)
+        return enrichOwnerItems(itemRepository.findAllByOwnerIdOrderByIdAsc(userId, pageable));
+    }
+
+    @Override
+    public CursorPage<ItemDto> getByUserId(long userId, String cursor, int size) {
+        List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(userId,
+                Cursor.ascending(cursor).getId(), Pagination.firstRows(size + 1));
+
+        return CursorPage.of(items, size, item -> Cursor.encode(item.getId())).map(this::enrichOwnerItems);
+    }
+
+    private List<ItemDto> enrichOwnerItems(List<Item> items) {
+        if (items.isEmpty()) return Collections.emptyList();
+
+        List<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toList());
+
+        Map<Long, List<Booking>> bookingsByItemId = bookingRepository.findAllByItemIdInAndStatusOrderByStartAsc(
+                        itemIds, BookingStatus.APPROVED)
                 .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+
+        Map<Long, List<CommentDto>> commentsByItemId = findCommentsByItemId(itemIds);
+
+        return items.stream()
                 .map(item -> {
                     ItemDto itemDto = itemMapper.transformItemToItemDto(item);
-                    List<Booking> bookingList = bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(
-                            item.getId(), BookingStatus.APPROVED);
+                    List<Booking> bookingList = bookingsByItemId.getOrDefault(item.getId(), Collections.emptyList());
 
                     itemDto.setLastBooking(bookingMapper.transformBookingToBookingDto(getLastBooking(bookingList)));
                     itemDto.setNextBooking(bookingMapper.transformBookingToBookingDto(getNextBooking(bookingList)));
-
-                    itemDto.setComments(commentService.findAllByItemId(item.getId())
-                            .stream().map(commentMapper::transformCommentToCommentDto)
-                            .collect(Collectors.toList()));
+                    itemDto.setComments(commentsByItemId.getOrDefault(item.getId(), Collections.emptyList()));
 
                     return itemDto;
                 }).collect(Collectors.toList());
     }
 
     @Override
-    public List<ItemDto> getBySearchText(String text, Pageable pageable) {
+    public List<ItemDto> getBySearchText(String text, SearchMode mode, Pageable pageable) {
         if (text.isBlank()) return Collections.emptyList();
-        return itemRepository.findAllByText(text, pageable)
-                .stream()
+
+        List<Item> items = itemSearchIndex.isReady() ? findIndexed(text, mode, pageable)
+                : itemRepository.findAllByText(text, pageable);
+
+        return items.stream()
                 .map(itemMapper::transformItemToItemDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<String> getSuggestions(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) return Collections.emptyList();
+
+        return itemSearchIndex.suggest(prefix, size);
+    }
+
+    @Override
+    public List<ItemDto> getAvailable(String text, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        if (!end.isAfter(start)) {
+            log.error("Server: Ошибка поиска свободных вещей! Неверно указаны даты!");
+            throw new BookingException("Ошибка поиска свободных вещей! Неверно указаны даты!");
+        }
+
+        List<Item> items;
+        if (text == null || text.isBlank()) {
+            items = itemRepository.findAllFreeBetween(BookingStatus.APPROVED, start, end, pageable);
+        } else if (itemSearchIndex.isReady()) {
+            items = findInOrder(findFreeIndexed(text, start, end, pageable));
+        } else {
+            items = itemRepository.findAllByTextFreeBetween(text, BookingStatus.APPROVED, start, end, pageable);
+        }
+
+        return items.stream()
+                .map(itemMapper::transformItemToItemDto)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> findFreeIndexed(String text, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        List<Long> candidates = itemSearchIndex.search(text, SearchMode.PREFIX, null);
+        long skip = pageable != null ? pageable.getOffset() : 0;
+        long limit = pageable != null ? pageable.getPageSize() : Long.MAX_VALUE;
+
+        List<Long> free = new ArrayList<>();
+        for (int from = 0; from < candidates.size() && free.size() < limit; from += AVAILABILITY_BATCH_SIZE) {
+            List<Long> batch = candidates.subList(from, Math.min(from + AVAILABILITY_BATCH_SIZE, candidates.size()));
+            Set<Long> booked = new HashSet<>(bookingRepository.findItemIdsBookedBetween(batch,
+                    BookingStatus.APPROVED, start, end));
+
+            for (Long itemId : batch) {
+                if (booked.contains(itemId)) continue;
+
+                if (skip > 0) {
+                    skip--;
+                } else if (free.size() < limit) {
+                    free.add(itemId);
+                }
+            }
+        }
+
+        return free;
+    }
+
+    private List<Item> findIndexed(String text, SearchMode mode, Pageable pageable) {
+        return findInOrder(itemSearchIndex.search(text, mode, pageable));
+    }
+
+    private List<Item> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        Map<Long, Item> itemsById = itemRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        ids.stream()
+                .filter(id -> !itemsById.containsKey(id))
+                .forEach(itemSearchIndex::remove);
+
+        return ids.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public void delete(long id) {
@@ -185,5 +422,9 @@ public class ItemServiceImpl implements ItemService {
             return new ObjectNotFoundException("Предмет", id);
         });
         itemRepository.deleteById(id);
+        AfterCommit.run(() -> itemSearchIndex.remove(id));
+        AfterCommit.run(() -> bookingTimelineIndex.remove(id));
+        itemViewCache.evict(id);
+        bookingListCache.evictAll();
     }
 }
\ No newline at end of file
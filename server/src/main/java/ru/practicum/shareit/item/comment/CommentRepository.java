@@ -1,9 +1,22 @@
 package ru.practicum.shareit.item.comment;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByItemId(long itemId);
+    @EntityGraph(Comment.WITH_AUTHOR)
+    @Query("SELECT c FROM Comment c WHERE c.item.id = :itemId")
+    List<Comment> findAllByItemId(@Param("itemId") long itemId);
+
+    @EntityGraph(Comment.WITH_AUTHOR)
+    @Query("SELECT c FROM Comment c WHERE c.item.id IN :itemIds")
+    List<Comment> findAllByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+
+    @Query("SELECT DISTINCT c.item.id FROM Comment c WHERE c.author.id = :authorId")
+    List<Long> findItemIdsByAuthorId(@Param("authorId") long authorId);
 }
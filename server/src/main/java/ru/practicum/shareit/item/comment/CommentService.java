@@ -1,9 +1,12 @@
 package ru.practicum.shareit.item.comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentService {
     Comment createComment(Comment comment);
 
     List<Comment> findAllByItemId(long itemId);
+
+    List<Comment> findAllByItemIdIn(Collection<Long> itemIds);
 }
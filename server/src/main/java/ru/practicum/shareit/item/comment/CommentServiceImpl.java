@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.comment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -17,4 +18,9 @@ public class CommentServiceImpl implements CommentService {
     public List<Comment> findAllByItemId(long itemId) {
         return commentRepository.findAllByItemId(itemId);
     }
+
+    @Override
+    public List<Comment> findAllByItemIdIn(Collection<Long> itemIds) {
+        return commentRepository.findAllByItemIdIn(itemIds);
+    }
 }
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemFeedError {
+    private final long line;
+    private final int status;
+    private final String error;
+}
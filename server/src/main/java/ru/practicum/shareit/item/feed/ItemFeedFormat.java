@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.feed;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ItemFeedFormat {
+    NDJSON(ItemFeedFormat.NDJSON_VALUE),
+    CSV(ItemFeedFormat.CSV_VALUE);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    ItemFeedFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static Optional<ItemFeedFormat> from(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+
+        MediaType requested = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(requested))
+                .findFirst();
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.item.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ItemFeedImporter {
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ItemFeedImporter(ItemService itemService, UserService userService, ObjectMapper objectMapper,
+                            @Value("${shareit-server.item-import.chunk-size:1000}") int chunkSize) {
+        this.itemService = itemService;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ItemFeedProgress importItems(long userId, ItemFeedFormat format, InputStream input, OutputStream output)
+            throws IOException {
+        userService.checkExists(userId);
+
+        ItemFeedProgress progress = new ItemFeedProgress();
+        List<ItemFeedReader.Row> chunk = new ArrayList<>(chunkSize);
+
+        try (ItemFeedReader reader = ItemFeedReader.of(format,
+                new InputStreamReader(input, StandardCharsets.UTF_8), objectMapper)) {
+            ItemFeedReader.Row row;
+            while ((row = reader.next()) != null) {
+                progress.rowRead();
+
+                String error = row.getError() != null ? row.getError() : validate(row.getItem());
+                if (error != null) {
+                    progress.rowFailed();
+                    write(output, new ItemFeedError(row.getLine(), HttpStatus.BAD_REQUEST.value(),
+                            String.format("%d - %s", HttpStatus.BAD_REQUEST.value(), error)));
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(userId, chunk, progress, output);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(userId, chunk, progress, output);
+        }
+        progress.complete();
+        write(output, progress);
+        log.info("Server: Импорт предметов для пользователя с id {} завершён: обработано {}, создано {}, ошибок {}",
+                userId, progress.getProcessed(), progress.getCreated(), progress.getFailed());
+
+        return progress;
+    }
+
+    private void importChunk(long userId, List<ItemFeedReader.Row> chunk, ItemFeedProgress progress,
+                             OutputStream output) throws IOException {
+        try {
+            List<BatchResult<ItemDto>> results = itemService.createAll(userId, chunk.stream()
+                    .map(ItemFeedReader.Row::getItem)
+                    .collect(Collectors.toList()));
+
+            for (BatchResult<ItemDto> result : results) {
+                if (result.getStatus() == HttpStatus.CREATED.value()) {
+                    progress.rowCreated();
+                } else {
+                    progress.rowFailed();
+                    write(output, new ItemFeedError(chunk.get(result.getIndex()).getLine(), result.getStatus(),
+                            result.getError()));
+                }
+            }
+        } catch (DataAccessException exception) {
+            log.error("Server: Ошибка импорта строк с {} по {}: {}", chunk.get(0).getLine(),
+                    chunk.get(chunk.size() - 1).getLine(), exception.getMessage());
+            for (ItemFeedReader.Row row : chunk) {
+                progress.rowFailed();
+                write(output, new ItemFeedError(row.getLine(), HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        String.format("%d - Ошибка сохранения предмета", HttpStatus.INTERNAL_SERVER_ERROR.value())));
+            }
+        }
+
+        chunk.clear();
+        write(output, progress);
+        output.flush();
+    }
+
+    private String validate(ItemDto itemDto) {
+        if (itemDto.getName() == null || itemDto.getName().isBlank()) {
+            return "Необходимо название вещи!";
+        }
+        if (itemDto.getName().length() > MAX_NAME_LENGTH) {
+            return "Название вещи должно быть от 1 до 255 символов!";
+        }
+        if (itemDto.getDescription() == null || itemDto.getDescription().isBlank()) {
+            return "Необходимо описание вещи!";
+        }
+        if (itemDto.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return "Описание вещи должно быть от 1 до 500 символов!";
+        }
+        if (itemDto.getAvailable() == null) {
+            return "Необходим статус вещи!";
+        }
+        if (itemDto.getRequestId() != null && itemDto.getRequestId() <= 0) {
+            return "ID запроса должен быть положительным!";
+        }
+        return null;
+    }
+
+    private void write(OutputStream output, Object line) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(line));
+        output.write('\n');
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.feed;
+
+import lombok.Getter;
+
+@Getter
+public class ItemFeedProgress {
+    private long processed;
+    private long created;
+    private long failed;
+    private boolean completed;
+
+    void rowRead() {
+        processed++;
+    }
+
+    void rowCreated() {
+        created++;
+    }
+
+    void rowFailed() {
+        failed++;
+    }
+
+    void complete() {
+        completed = true;
+    }
+}
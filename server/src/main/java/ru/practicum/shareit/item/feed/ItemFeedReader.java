@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+abstract class ItemFeedReader implements Closeable {
+    private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .findAndRegisterModules();
+
+    static ItemFeedReader of(ItemFeedFormat format, Reader reader, ObjectMapper objectMapper) throws IOException {
+        if (format == ItemFeedFormat.CSV) {
+            return new Csv(reader);
+        }
+        return new Ndjson(reader, objectMapper);
+    }
+
+    abstract Row next() throws IOException;
+
+    @Getter
+    @AllArgsConstructor
+    static class Row {
+        private final long line;
+        private final ItemDto item;
+        private final String error;
+    }
+
+    private static class Ndjson extends ItemFeedReader {
+        private final BufferedReader reader;
+        private final ObjectReader itemReader;
+        private long lineNumber;
+
+        private Ndjson(Reader reader, ObjectMapper objectMapper) {
+            this.reader = new BufferedReader(reader);
+            this.itemReader = objectMapper.readerFor(ItemDto.class);
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                return new Row(lineNumber, itemReader.readValue(line), null);
+            } catch (JsonProcessingException exception) {
+                return new Row(lineNumber, null, exception.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static class Csv extends ItemFeedReader {
+        private final MappingIterator<ItemDto> rows;
+
+        private Csv(Reader reader) throws IOException {
+            this.rows = CSV_MAPPER.readerFor(ItemDto.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+
+            long line = rows.getParser().getCurrentLocation().getLineNr();
+            try {
+                return new Row(line, rows.nextValue(), null);
+            } catch (JsonProcessingException exception) {
+                return new Row(line, null, exception.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
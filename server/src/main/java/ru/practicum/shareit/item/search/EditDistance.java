@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EditDistance {
+    public static int allowedDistance(int tokenLength) {
+        if (tokenLength <= 3) return 0;
+        if (tokenLength <= 6) return 1;
+        return 2;
+    }
+
+    public static int bounded(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) return maxDistance + 1;
+
+        int limit = maxDistance + 1;
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = Math.min(j, limit);
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(target.length(), i + maxDistance);
+
+            current[from - 1] = from == 1 ? Math.min(i, limit) : limit;
+            int rowMinimum = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(limit, Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < target.length()) {
+                current[to + 1] = limit;
+            }
+
+            if (rowMinimum > maxDistance) return limit;
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[target.length()];
+    }
+}
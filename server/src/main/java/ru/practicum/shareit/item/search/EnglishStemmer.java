@@ -0,0 +1,67 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EnglishStemmer {
+    private static final int MIN_STEM_LENGTH = 3;
+
+    public static String stem(String word) {
+        String result = removePlural(word);
+
+        if (result.endsWith("ing")) {
+            result = removeVerbSuffix(result, 3);
+        } else if (result.endsWith("ed")) {
+            result = removeVerbSuffix(result, 2);
+        } else if (result.endsWith("ly") && result.length() - 2 >= MIN_STEM_LENGTH) {
+            result = result.substring(0, result.length() - 2);
+        }
+
+        return result;
+    }
+
+    private static String removePlural(String word) {
+        if (word.length() <= MIN_STEM_LENGTH || !word.endsWith("s") || word.endsWith("ss")
+                || word.endsWith("us") || word.endsWith("is")) {
+            return word;
+        }
+        if (word.endsWith("ies") && !word.endsWith("eies") && !word.endsWith("aies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")) {
+            return word.substring(0, word.length() - 2);
+        }
+        return word.substring(0, word.length() - 1);
+    }
+
+    private static String removeVerbSuffix(String word, int suffixLength) {
+        String stem = word.substring(0, word.length() - suffixLength);
+        if (stem.length() < MIN_STEM_LENGTH || !containsVowel(stem)) {
+            return word;
+        }
+
+        int last = stem.length() - 1;
+        if (stem.charAt(last) == stem.charAt(last - 1) && !isVowel(stem.charAt(last))
+                && "lsz".indexOf(stem.charAt(last)) < 0) {
+            return stem.substring(0, last);
+        }
+        if (stem.endsWith("at") || stem.endsWith("bl") || stem.endsWith("iz")) {
+            return stem + "e";
+        }
+        return stem;
+    }
+
+    private static boolean containsVowel(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isVowel(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char letter) {
+        return "aeiouy".indexOf(letter) >= 0;
+    }
+}
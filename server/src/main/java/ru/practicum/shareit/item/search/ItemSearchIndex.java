@@ -0,0 +1,348 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final int GRAM_LENGTH = 3;
+    private static final char GRAM_PADDING = '$';
+    private static final int SUGGESTIONS_PER_NODE = 10;
+    private static final long[] NO_IDS = new long[0];
+
+    private final ItemRepository itemRepository;
+
+    private final ConcurrentNavigableMap<String, long[]> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<Long, StemFrequency>> stemPostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> termsByGram = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedItem> documents = new ConcurrentHashMap<>();
+    private final SuggestionTrie suggestions = new SuggestionTrie(SUGGESTIONS_PER_NODE);
+    private volatile long totalNameLength;
+    private volatile long totalDescriptionLength;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long lastId = 0;
+        List<ItemSearchView> batch;
+
+        do {
+            batch = itemRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, Pagination.firstRows(BUILD_BATCH_SIZE));
+            for (ItemSearchView view : batch) {
+                indexIfAbsent(view.getId(), view.getName(), view.getDescription(), view.getAvailable());
+                lastId = view.getId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("Server: Поисковый индекс предметов построен, проиндексировано предметов: {}", documents.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Item item) {
+        index(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+    }
+
+    public synchronized void remove(long itemId) {
+        IndexedItem removed = documents.remove(itemId);
+        if (removed == null) return;
+
+        for (String term : removed.getTerms()) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                long[] remaining = PostingMerge.withoutId(ids, itemId);
+                if (remaining.length > 0) return remaining;
+
+                removeGrams(term);
+                return null;
+            });
+        }
+        for (String stem : removed.getStems()) {
+            stemPostings.computeIfPresent(stem, (key, frequencies) -> {
+                frequencies.remove(itemId);
+                return frequencies.isEmpty() ? null : frequencies;
+            });
+        }
+        if (removed.isAvailable()) {
+            suggestionKeys(removed.getName()).forEach(key -> suggestions.remove(key, removed.getName()));
+        }
+        totalNameLength -= removed.getNameLength();
+        totalDescriptionLength -= removed.getDescriptionLength();
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        String normalized = String.join(" ", Tokenizer.tokens(prefix));
+        if (normalized.isEmpty()) return List.of();
+
+        return suggestions.suggest(normalized, size);
+    }
+
+    public List<Long> search(String text, SearchMode mode, Pageable pageable) {
+        Stream<Long> found;
+        switch (mode) {
+            case RELEVANCE:
+                found = rankByRelevance(text);
+                break;
+            case FUZZY:
+                found = matchAllApproximately(text);
+                break;
+            default:
+                found = matchAllPrefixes(text);
+        }
+
+        if (pageable != null) {
+            found = found.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        return found.collect(Collectors.toList());
+    }
+
+    private Stream<Long> matchAllPrefixes(String text) {
+        Set<String> queryTokens = Tokenizer.tokenize(text);
+        if (queryTokens.isEmpty()) return Stream.empty();
+
+        List<PostingMerge> matches = queryTokens.stream()
+                .map(this::matchPrefix)
+                .collect(Collectors.toList());
+
+        return PostingMerge.intersect(matches)
+                .filter(this::isAvailable);
+    }
+
+    private Stream<Long> matchAllApproximately(String text) {
+        Set<String> queryTokens = Tokenizer.tokenize(text);
+        if (queryTokens.isEmpty()) return Stream.empty();
+
+        Map<Long, Integer> distances = null;
+        for (String token : queryTokens) {
+            Map<Long, Integer> tokenDistances = new HashMap<>();
+            findSimilarTerms(token).forEach((term, distance) -> {
+                for (long itemId : postings.getOrDefault(term, NO_IDS)) {
+                    tokenDistances.merge(itemId, distance, Math::min);
+                }
+            });
+
+            if (distances == null) {
+                distances = tokenDistances;
+            } else {
+                distances.keySet().retainAll(tokenDistances.keySet());
+                distances.replaceAll((itemId, distance) -> distance + tokenDistances.get(itemId));
+            }
+
+            if (distances.isEmpty()) return Stream.empty();
+        }
+
+        return distances.entrySet().stream()
+                .filter(entry -> isAvailable(entry.getKey()))
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey);
+    }
+
+    private Map<String, Integer> findSimilarTerms(String token) {
+        Map<String, Integer> similar = new HashMap<>();
+        postings.subMap(token, token + Character.MAX_VALUE).keySet()
+                .forEach(term -> similar.put(term, 0));
+
+        int maxDistance = EditDistance.allowedDistance(token.length());
+        if (maxDistance == 0) return similar;
+
+        List<String> grams = grams(token);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            termsByGram.getOrDefault(gram, Set.of()).forEach(term -> sharedGrams.merge(term, 1, Integer::sum));
+        }
+
+        sharedGrams.forEach((term, shared) -> {
+            if (similar.containsKey(term) || Math.abs(term.length() - token.length()) > maxDistance) return;
+            if (shared < Math.max(term.length(), token.length()) - GRAM_LENGTH * maxDistance) return;
+
+            int distance = EditDistance.bounded(token, term, maxDistance);
+            if (distance <= maxDistance) {
+                similar.put(term, distance);
+            }
+        });
+
+        return similar;
+    }
+
+    private Stream<Long> rankByRelevance(String text) {
+        Set<String> queryStems = Tokenizer.tokenize(text).stream()
+                .map(Stemmer::stem)
+                .collect(Collectors.toSet());
+
+        int documentCount = Math.max(documents.size(), 1);
+        double averageNameLength = Math.max((double) totalNameLength / documentCount, 1);
+        double averageDescriptionLength = Math.max((double) totalDescriptionLength / documentCount, 1);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String stem : queryStems) {
+            Map<Long, StemFrequency> frequencies = stemPostings.getOrDefault(stem, Map.of());
+            double idf = Math.log(1 + (documentCount - frequencies.size() + 0.5) / (frequencies.size() + 0.5));
+
+            frequencies.forEach((itemId, frequency) -> {
+                IndexedItem item = documents.get(itemId);
+                if (item == null || !item.isAvailable()) return;
+
+                double weightedFrequency = NAME_WEIGHT * normalize(frequency.getName(), item.getNameLength(),
+                        averageNameLength) + DESCRIPTION_WEIGHT * normalize(frequency.getDescription(),
+                        item.getDescriptionLength(), averageDescriptionLength);
+                double score = idf * weightedFrequency / (K1 + weightedFrequency);
+                scores.merge(itemId, score, Double::sum);
+            });
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey);
+    }
+
+    private double normalize(int frequency, int fieldLength, double averageFieldLength) {
+        return frequency / (1 - B + B * fieldLength / averageFieldLength);
+    }
+
+    private synchronized void index(long itemId, String name, String description, Boolean available) {
+        remove(itemId);
+        put(itemId, name, description, available);
+    }
+
+    private synchronized void indexIfAbsent(long itemId, String name, String description, Boolean available) {
+        if (!documents.containsKey(itemId)) {
+            put(itemId, name, description, available);
+        }
+    }
+
+    private void put(long itemId, String name, String description, Boolean available) {
+        List<String> nameTokens = Tokenizer.tokens(name);
+        List<String> descriptionTokens = Tokenizer.tokens(description);
+
+        Set<String> terms = new HashSet<>(nameTokens);
+        terms.addAll(descriptionTokens);
+        for (String term : terms) {
+            postings.compute(term, (key, ids) -> {
+                if (ids != null) return PostingMerge.withId(ids, itemId);
+
+                addGrams(term);
+                return new long[]{itemId};
+            });
+        }
+
+        Map<String, StemFrequency> frequencies = new HashMap<>();
+        nameTokens.forEach(token -> frequencies.computeIfAbsent(Stemmer.stem(token), key -> new StemFrequency())
+                .addName());
+        descriptionTokens.forEach(token -> frequencies.computeIfAbsent(Stemmer.stem(token),
+                key -> new StemFrequency()).addDescription());
+        frequencies.forEach((stem, frequency) -> stemPostings.computeIfAbsent(stem, key -> new ConcurrentHashMap<>())
+                .put(itemId, frequency));
+
+        IndexedItem item = new IndexedItem(name, terms, frequencies.keySet(), nameTokens.size(),
+                descriptionTokens.size(), Boolean.TRUE.equals(available));
+        documents.put(itemId, item);
+        if (item.isAvailable()) {
+            suggestionKeys(name).forEach(key -> suggestions.add(key, name));
+        }
+        totalNameLength += nameTokens.size();
+        totalDescriptionLength += descriptionTokens.size();
+    }
+
+    private void addGrams(String term) {
+        for (String gram : grams(term)) {
+            termsByGram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(term);
+        }
+    }
+
+    private void removeGrams(String term) {
+        for (String gram : grams(term)) {
+            termsByGram.computeIfPresent(gram, (key, terms) -> {
+                terms.remove(term);
+                return terms.isEmpty() ? null : terms;
+            });
+        }
+    }
+
+    private List<String> suggestionKeys(String name) {
+        List<String> tokens = Tokenizer.tokens(name);
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return keys;
+    }
+
+    private List<String> grams(String term) {
+        String padded = GRAM_PADDING + term + GRAM_PADDING;
+
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private PostingMerge matchPrefix(String prefix) {
+        return new PostingMerge(postings.subMap(prefix, prefix + Character.MAX_VALUE).values());
+    }
+
+    private boolean isAvailable(long itemId) {
+        IndexedItem item = documents.get(itemId);
+        return item != null && item.isAvailable();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedItem {
+        private final String name;
+        private final Set<String> terms;
+        private final Set<String> stems;
+        private final int nameLength;
+        private final int descriptionLength;
+        private final boolean available;
+    }
+
+    @Getter
+    private static class StemFrequency {
+        private int name;
+        private int description;
+
+        private void addName() {
+            name++;
+        }
+
+        private void addDescription() {
+            description++;
+        }
+    }
+}
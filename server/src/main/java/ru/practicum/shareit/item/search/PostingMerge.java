@@ -0,0 +1,122 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class PostingMerge {
+    private final PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingLong(Cursor::current));
+
+    public PostingMerge(Collection<long[]> postings) {
+        for (long[] ids : postings) {
+            if (ids.length > 0) {
+                cursors.add(new Cursor(ids));
+            }
+        }
+    }
+
+    public static Stream<Long> intersect(List<PostingMerge> merges) {
+        if (merges.isEmpty() || merges.stream().anyMatch(PostingMerge::isExhausted)) return Stream.empty();
+
+        return StreamSupport.stream(new Intersection(merges), false);
+    }
+
+    public static long[] withId(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) return ids;
+
+        int insertion = -position - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertion);
+        updated[insertion] = id;
+        System.arraycopy(ids, insertion, updated, insertion + 1, ids.length - insertion);
+        return updated;
+    }
+
+    public static long[] withoutId(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) return ids;
+
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+        return updated;
+    }
+
+    public boolean isExhausted() {
+        return cursors.isEmpty();
+    }
+
+    public long current() {
+        return cursors.element().current();
+    }
+
+    public void advanceTo(long target) {
+        while (!cursors.isEmpty() && cursors.element().current() < target) {
+            Cursor cursor = cursors.remove();
+            if (cursor.seek(target)) {
+                cursors.add(cursor);
+            }
+        }
+    }
+
+    private static class Cursor {
+        private final long[] ids;
+        private int position;
+
+        private Cursor(long[] ids) {
+            this.ids = ids;
+        }
+
+        private long current() {
+            return ids[position];
+        }
+
+        private boolean seek(long target) {
+            int found = Arrays.binarySearch(ids, position, ids.length, target);
+            position = found >= 0 ? found : -found - 1;
+            return position < ids.length;
+        }
+    }
+
+    private static class Intersection extends Spliterators.AbstractSpliterator<Long> {
+        private final List<PostingMerge> merges;
+        private long target = Long.MIN_VALUE;
+
+        private Intersection(List<PostingMerge> merges) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.merges = merges;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Long> action) {
+            long candidate = target;
+            int agreeing = 0;
+            int index = 0;
+            while (agreeing < merges.size()) {
+                PostingMerge merge = merges.get(index);
+                merge.advanceTo(candidate);
+                if (merge.isExhausted()) return false;
+
+                if (merge.current() == candidate) {
+                    agreeing++;
+                } else {
+                    candidate = merge.current();
+                    agreeing = 1;
+                }
+                index = (index + 1) % merges.size();
+            }
+
+            target = candidate + 1;
+            action.accept(candidate);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RussianStemmer {
+    private static final String VOWELS = "аеиоуыэюя";
+
+    private static final String[] PERFECTIVE_GERUND_1 = sorted("в", "вши", "вшись");
+    private static final String[] PERFECTIVE_GERUND_2 = sorted("ив", "ивши", "ившись", "ыв", "ывши", "ывшись");
+    private static final String[] REFLEXIVE = sorted("ся", "сь");
+    private static final String[] ADJECTIVE = sorted("ее", "ие", "ые", "ое", "ими", "ыми", "ей", "ий", "ый", "ой",
+            "ем", "им", "ым", "ом", "его", "ого", "ему", "ому", "их", "ых", "ую", "юю", "ая", "яя", "ою", "ею");
+    private static final String[] PARTICIPLE_1 = sorted("ем", "нн", "вш", "ющ", "щ");
+    private static final String[] PARTICIPLE_2 = sorted("ивш", "ывш", "ующ");
+    private static final String[] VERB_1 = sorted("ла", "на", "ете", "йте", "ли", "й", "л", "ем", "н", "ло", "но",
+            "ет", "ют", "ны", "ть", "ешь", "нно");
+    private static final String[] VERB_2 = sorted("ила", "ыла", "ена", "ейте", "уйте", "ите", "или", "ыли", "ей",
+            "уй", "ил", "ыл", "им", "ым", "ен", "ило", "ыло", "ено", "ят", "ует", "уют", "ит", "ыт", "ены", "ить",
+            "ыть", "ишь", "ую", "ю");
+    private static final String[] NOUN = sorted("а", "ев", "ов", "ие", "ье", "е", "иями", "ями", "ами", "еи", "ии",
+            "и", "ией", "ей", "ой", "ий", "й", "иям", "ям", "ием", "ем", "ам", "ом", "о", "у", "ах", "иях", "ях", "ы",
+            "ь", "ию", "ью", "ю", "ия", "ья", "я");
+    private static final String[] SUPERLATIVE = sorted("ейш", "ейше");
+    private static final String[] DERIVATIONAL = sorted("ост", "ость");
+
+    public static String stem(String word) {
+        String result = word.replace('ё', 'е');
+        int rv = findRv(result);
+        if (rv >= result.length()) return result;
+        int r2 = findR(result, findR(result, 0));
+
+        String stripped = removeGrouped(result, rv, PERFECTIVE_GERUND_1, PERFECTIVE_GERUND_2);
+        if (stripped != null) {
+            result = stripped;
+        } else {
+            stripped = removeLongest(result, rv, REFLEXIVE);
+            if (stripped != null) {
+                result = stripped;
+            }
+
+            stripped = removeAdjectival(result, rv);
+            if (stripped == null) {
+                stripped = removeGrouped(result, rv, VERB_1, VERB_2);
+            }
+            if (stripped == null) {
+                stripped = removeLongest(result, rv, NOUN);
+            }
+            if (stripped != null) {
+                result = stripped;
+            }
+        }
+
+        if (result.length() > rv && result.endsWith("и")) {
+            result = result.substring(0, result.length() - 1);
+        }
+
+        stripped = removeLongest(result, r2, DERIVATIONAL);
+        if (stripped != null) {
+            result = stripped;
+        }
+
+        if (result.length() - 2 >= rv && result.endsWith("нн")) {
+            return result.substring(0, result.length() - 1);
+        }
+
+        stripped = removeLongest(result, rv, SUPERLATIVE);
+        if (stripped != null) {
+            return stripped.length() - 2 >= rv && stripped.endsWith("нн")
+                    ? stripped.substring(0, stripped.length() - 1) : stripped;
+        }
+
+        if (result.length() > rv && result.endsWith("ь")) {
+            return result.substring(0, result.length() - 1);
+        }
+
+        return result;
+    }
+
+    private static String removeAdjectival(String word, int rv) {
+        String withoutAdjective = removeLongest(word, rv, ADJECTIVE);
+        if (withoutAdjective == null) return null;
+
+        String withoutParticiple = removeGrouped(withoutAdjective, rv, PARTICIPLE_1, PARTICIPLE_2);
+        return withoutParticiple != null ? withoutParticiple : withoutAdjective;
+    }
+
+    private static String removeGrouped(String word, int rv, String[] afterAOrYa, String[] standalone) {
+        String first = findLongest(word, rv, afterAOrYa);
+        String second = findLongest(word, rv, standalone);
+
+        if (second != null && (first == null || second.length() >= first.length())) {
+            return word.substring(0, word.length() - second.length());
+        }
+        if (first == null) return null;
+
+        int precedingIndex = word.length() - first.length() - 1;
+        if (precedingIndex < rv) return null;
+
+        char preceding = word.charAt(precedingIndex);
+        return preceding == 'а' || preceding == 'я' ? word.substring(0, precedingIndex + 1) : null;
+    }
+
+    private static String removeLongest(String word, int regionStart, String[] suffixes) {
+        String suffix = findLongest(word, regionStart, suffixes);
+        return suffix == null ? null : word.substring(0, word.length() - suffix.length());
+    }
+
+    private static String findLongest(String word, int regionStart, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= regionStart) {
+                return suffix;
+            }
+        }
+        return null;
+    }
+
+    private static int findRv(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isVowel(word.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private static int findR(String word, int start) {
+        for (int i = start + 1; i < word.length(); i++) {
+            if (!isVowel(word.charAt(i)) && isVowel(word.charAt(i - 1))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private static boolean isVowel(char letter) {
+        return VOWELS.indexOf(letter) >= 0;
+    }
+
+    private static String[] sorted(String... suffixes) {
+        return Arrays.stream(suffixes)
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toArray(String[]::new);
+    }
+}
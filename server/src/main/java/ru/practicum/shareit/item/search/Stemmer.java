@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Stemmer {
+    public static String stem(String token) {
+        if (token.isEmpty()) return token;
+
+        Character.UnicodeScript script = Character.UnicodeScript.of(token.codePointAt(0));
+        if (script == Character.UnicodeScript.CYRILLIC) {
+            return RussianStemmer.stem(token);
+        }
+        if (script == Character.UnicodeScript.LATIN) {
+            return EnglishStemmer.stem(token);
+        }
+        return token;
+    }
+}
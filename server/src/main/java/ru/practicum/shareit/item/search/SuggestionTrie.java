@@ -0,0 +1,227 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+public class SuggestionTrie {
+    private static final Comparator<Suggestion> BY_POPULARITY = Comparator.comparingInt(Suggestion::getCount)
+            .reversed()
+            .thenComparing(Suggestion::getText);
+
+    private final int topSize;
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionTrie(int topSize) {
+        this.topSize = topSize;
+    }
+
+    public void add(String key, String text) {
+        change(key, text, 1);
+    }
+
+    public void remove(String key, String text) {
+        change(key, text, -1);
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < prefix.length()) {
+                Node child = node.child(prefix.charAt(position));
+                if (child == null) return List.of();
+
+                int common = commonPrefixLength(child.label, prefix, position);
+                if (position + common == prefix.length()) {
+                    node = child;
+                    break;
+                }
+                if (common < child.label.length()) return List.of();
+
+                node = child;
+                position += common;
+            }
+
+            return node.top.stream()
+                    .limit(limit)
+                    .map(Suggestion::getText)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(String key, String text, int delta) {
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.child(key.charAt(position));
+                if (child == null) {
+                    if (delta < 0) return;
+
+                    child = new Node(key.substring(position));
+                    node.addChild(child);
+                } else {
+                    int common = commonPrefixLength(child.label, key, position);
+                    if (common < child.label.length()) {
+                        if (delta < 0) return;
+
+                        child = node.split(child, common);
+                    }
+                }
+
+                node = child;
+                path.add(node);
+                position += node.label.length();
+            }
+
+            node.changeCount(text, delta);
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                if (i > 0 && current.texts == null && current.keys.length == 0) {
+                    path.get(i - 1).removeChild(current);
+                    continue;
+                }
+                if (i > 0 && current.texts == null && current.keys.length == 1) {
+                    current.absorbChild();
+                }
+                current.top = collectTop(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Suggestion> collectTop(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.texts != null) {
+            node.texts.forEach((text, count) -> candidates.add(new Suggestion(text, count)));
+        }
+        for (Node child : node.children) {
+            candidates.addAll(child.top);
+        }
+
+        Set<String> seen = new HashSet<>();
+        return candidates.stream()
+                .sorted(BY_POPULARITY)
+                .filter(suggestion -> seen.add(suggestion.getText()))
+                .limit(topSize)
+                .collect(Collectors.toList());
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Suggestion {
+        private final String text;
+        private final int count;
+    }
+
+    private static class Node {
+        private String label;
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Map<String, Integer> texts;
+        private List<Suggestion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int index = -Arrays.binarySearch(keys, child.label.charAt(0)) - 1;
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void removeChild(Node child) {
+            int index = Arrays.binarySearch(keys, child.label.charAt(0));
+            if (index < 0) return;
+
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private Node split(Node child, int at) {
+            Node middle = new Node(child.label.substring(0, at));
+            children[Arrays.binarySearch(keys, middle.label.charAt(0))] = middle;
+
+            child.label = child.label.substring(at);
+            middle.addChild(child);
+            middle.top = child.top;
+            return middle;
+        }
+
+        private void absorbChild() {
+            Node child = children[0];
+            label = label + child.label;
+            keys = child.keys;
+            children = child.children;
+            texts = child.texts;
+        }
+
+        private void changeCount(String text, int delta) {
+            if (delta > 0) {
+                if (texts == null) {
+                    texts = new HashMap<>(2);
+                }
+                texts.merge(text, delta, Integer::sum);
+            } else if (texts != null) {
+                texts.computeIfPresent(text, (key, count) -> count + delta > 0 ? count + delta : null);
+                if (texts.isEmpty()) {
+                    texts = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item.view;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.transaction.AfterCommit;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class ItemViewCache {
+    private final CacheManager cacheManager;
+
+    public ItemDto getItem(long itemId, Supplier<ItemDto> loader) {
+        ItemDto view = cache(CacheConfig.ITEM_VIEWS).get(itemId, ItemDto.class);
+        if (view == null) {
+            view = copyOf(loader.get());
+            view.setComments(List.copyOf(view.getComments()));
+            cache(CacheConfig.ITEM_VIEWS).put(itemId, view);
+        }
+
+        return copyOf(view);
+    }
+
+    public Map<Long, ItemDto> getItems(Collection<Long> itemIds, Function<Set<Long>, Map<Long, ItemDto>> loader) {
+        Map<Long, ItemDto> views = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long itemId : itemIds) {
+            ItemDto view = cache(CacheConfig.ITEM_VIEWS).get(itemId, ItemDto.class);
+            if (view != null) {
+                views.put(itemId, copyOf(view));
+            } else {
+                missing.add(itemId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach((itemId, loaded) -> {
+                ItemDto view = copyOf(loaded);
+                view.setComments(List.copyOf(view.getComments()));
+                cache(CacheConfig.ITEM_VIEWS).put(itemId, view);
+                views.put(itemId, copyOf(view));
+            });
+        }
+
+        return views;
+    }
+
+    public Optional<List<CommentDto>> findComments(long itemId) {
+        return Optional.ofNullable(cache(CacheConfig.ITEM_VIEWS).get(itemId, ItemDto.class))
+                .map(ItemDto::getComments);
+    }
+
+    public OwnerBookings getOwnerBookings(long itemId, Supplier<OwnerBookings> loader) {
+        OwnerBookings bookings = cache(CacheConfig.ITEM_OWNER_BOOKINGS).get(itemId, OwnerBookings.class);
+        if (bookings == null || bookings.isExpired(LocalDateTime.now())) {
+            bookings = loader.get();
+            cache(CacheConfig.ITEM_OWNER_BOOKINGS).put(itemId, bookings);
+        }
+
+        return bookings;
+    }
+
+    public void evict(long itemId) {
+        evictAll(List.of(itemId));
+    }
+
+    public void evictAll(Collection<Long> itemIds) {
+        Runnable eviction = () -> itemIds.forEach(itemId -> {
+            cache(CacheConfig.ITEM_VIEWS).evict(itemId);
+            cache(CacheConfig.ITEM_OWNER_BOOKINGS).evict(itemId);
+        });
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+
+    private static ItemDto copyOf(ItemDto itemDto) {
+        return ItemDto.builder()
+                .id(itemDto.getId())
+                .name(itemDto.getName())
+                .description(itemDto.getDescription())
+                .available(itemDto.getAvailable())
+                .owner(copyOf(itemDto.getOwner()))
+                .requestId(itemDto.getRequestId())
+                .comments(itemDto.getComments())
+                .build();
+    }
+
+    private static User copyOf(User user) {
+        return user == null ? null : new User(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.dto.BookingDatesDto;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OwnerBookings {
+    private final BookingDatesDto lastBooking;
+    private final BookingDatesDto nextBooking;
+    private final LocalDateTime validUntil;
+
+    public boolean isExpired(LocalDateTime now) {
+        return validUntil != null && !now.isBefore(validUntil);
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.common.pagination.Pagination;
@@ -30,9 +31,11 @@ public class RequestController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<RequestDto> getOwnRequests(@RequestHeader(HEADER_USER_ID) long userId) {
+    public List<RequestDto> getOwnRequests(@RequestHeader(HEADER_USER_ID) long userId,
+                                           @RequestParam(value = "from", required = false) Integer from,
+                                           @RequestParam(value = "size", required = false) Integer size) {
         log.info("Server: Запрос на получение собственных запросов пользователем с id {}", userId);
-        return requestService.getOwnRequests(userId);
+        return requestService.getOwnRequests(userId, Pagination.splitByPages(from, size));
     }
 
     @GetMapping("/all")
@@ -45,6 +48,16 @@ public class RequestController {
         return requestService.getOtherUsersRequests(userId, Pagination.splitByPages(from, size));
     }
 
+    @GetMapping(value = "/all", params = "cursor")
+    public ResponseEntity<List<RequestDto>> getOtherUsersRequests(
+            @RequestHeader(HEADER_USER_ID) long userId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос пользователя с id {} на получение запросов других пользователей с курсором {}",
+                userId, cursor);
+        return requestService.getOtherUsersRequests(userId, cursor, Pagination.limitPageSize(size)).toResponse();
+    }
+
     @GetMapping("/{requestId}")
     @ResponseStatus(HttpStatus.OK)
     public RequestDto get(@RequestHeader(HEADER_USER_ID) long userId, @PathVariable long requestId) {
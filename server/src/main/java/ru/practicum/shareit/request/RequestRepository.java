@@ -2,11 +2,24 @@ package ru.practicum.shareit.request;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
-    List<Request> findAllByUserIdOrderByCreatedDesc(long userId);
+    @Query("SELECT r FROM Request r WHERE r.user.id = :userId ORDER BY r.created DESC")
+    List<Request> findAllByUserIdOrderByCreatedDesc(@Param("userId") long userId, Pageable pageable);
 
-    List<Request> findAllByUserIdIsNotOrderByCreatedDesc(long userId, Pageable pageable);
+    @Query("SELECT r FROM Request r WHERE r.user.id <> :userId ORDER BY r.created DESC")
+    List<Request> findAllByUserIdIsNotOrderByCreatedDesc(@Param("userId") long userId, Pageable pageable);
+
+    @Query("SELECT r FROM Request r " +
+            "WHERE r.user.id <> :userId " +
+            "AND (r.created < :created OR (r.created = :created AND r.id < :id)) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<Request> findAllByUserIdIsNotBeforeKeyset(@Param("userId") long userId,
+                                                   @Param("created") LocalDateTime created,
+                                                   @Param("id") long id, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import ru.practicum.shareit.common.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 import org.springframework.data.domain.Pageable;
@@ -9,9 +10,11 @@ import java.util.List;
 public interface RequestService {
     RequestDto create(long userId, RequestDto requestDto);
 
-    List<RequestDto> getOwnRequests(long userId);
+    List<RequestDto> getOwnRequests(long userId, Pageable pageable);
 
     List<RequestDto> getOtherUsersRequests(long userId, Pageable pageable);
 
+    CursorPage<RequestDto> getOtherUsersRequests(long userId, String cursor, int size);
+
     RequestDto get(long userId, long requestId);
 }
@@ -5,6 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.ItemRepository;
@@ -14,7 +17,9 @@ import ru.practicum.shareit.user.UserService;
 
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,28 +47,34 @@ public class RequestServiceImpl implements RequestService {
     }
 
     @Override
-    public List<RequestDto> getOwnRequests(long userId) {
-        userService.get(userId);
+    public List<RequestDto> getOwnRequests(long userId, Pageable pageable) {
+        userService.checkExists(userId);
 
-        return requestRepository.findAllByUserIdOrderByCreatedDesc(userId)
-                .stream()
-                .map(this::creatingDto)
-                .collect(Collectors.toList());
+        return creatingDtoList(requestRepository.findAllByUserIdOrderByCreatedDesc(userId, pageable));
     }
 
     @Override
     public List<RequestDto> getOtherUsersRequests(long userId, Pageable pageable) {
-        userService.get(userId);
+        userService.checkExists(userId);
 
-        return requestRepository.findAllByUserIdIsNotOrderByCreatedDesc(userId, pageable)
-                .stream()
-                .map(this::creatingDto)
-                .collect(Collectors.toList());
+        return creatingDtoList(requestRepository.findAllByUserIdIsNotOrderByCreatedDesc(userId, pageable));
+    }
+
+    @Override
+    public CursorPage<RequestDto> getOtherUsersRequests(long userId, String cursor, int size) {
+        userService.checkExists(userId);
+
+        Cursor position = Cursor.descending(cursor);
+        List<Request> requests = requestRepository.findAllByUserIdIsNotBeforeKeyset(userId, position.getPosition(),
+                position.getId(), Pagination.firstRows(size + 1));
+
+        return CursorPage.of(requests, size, request -> Cursor.encode(request.getCreated(), request.getId()))
+                .map(this::creatingDtoList);
     }
 
     @Override
     public RequestDto get(long userId, long requestId) {
-        userService.get(userId);
+        userService.checkExists(userId);
 
         Request request = requestRepository.findById(requestId).orElseThrow(() -> {
             log.error("Server: Запрос по ID {} на вещь не найден!", requestId);
@@ -83,4 +94,22 @@ public class RequestServiceImpl implements RequestService {
 
         return requestDto;
     }
+
+    private List<RequestDto> creatingDtoList(List<Request> requests) {
+        if (requests.isEmpty()) return Collections.emptyList();
+
+        Map<Long, List<ItemDto>> itemsByRequestId = itemRepository.findAllByRequestIdIn(
+                        requests.stream().map(Request::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId(),
+                        Collectors.mapping(itemMapper::transformItemToItemDto, Collectors.toList())));
+
+        return requests.stream()
+                .map(request -> {
+                    RequestDto requestDto = requestMapper.transformRequestToRequestDto(request);
+                    requestDto.setItems(itemsByRequestId.getOrDefault(request.getId(), Collections.emptyList()));
+                    return requestDto;
+                })
+                .collect(Collectors.toList());
+    }
 }
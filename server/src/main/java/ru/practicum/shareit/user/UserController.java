@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
@@ -22,6 +24,13 @@ public class UserController {
         return userService.create(userDto);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public List<BatchResult<User>> createAll(@RequestBody List<UserDto> userDtos) {
+        log.info("Server: Запрос на создание {} пользователей", userDtos.size());
+        return userService.createAll(userDtos);
+    }
+
     @PatchMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public User update(@PathVariable long id, @RequestBody UserDto userDto) {
@@ -38,9 +47,17 @@ public class UserController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<User> getAll() {
-        log.info("Server: Запрос на получение списка всех пользователей размером {}", userService.getAll().size());
-        return userService.getAll();
+    public List<User> getAll(@RequestParam(value = "from", required = false) Integer from,
+                             @RequestParam(value = "size", required = false) Integer size) {
+        log.info("Server: Запрос на получение списка пользователей с {} размером {}", from, size);
+        return userService.getAll(Pagination.splitByPages(from, size));
+    }
+
+    @GetMapping(params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public List<User> getAll(@RequestParam(value = "ids") List<Long> ids) {
+        log.info("Server: Запрос на получение {} пользователей по ID", ids.size());
+        return userService.getAll(Pagination.limitLookupSize(ids));
     }
 
     @DeleteMapping("/{id}")
@@ -1,17 +1,26 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.common.batch.BatchResult;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
     User create(UserDto userDto);
 
+    List<BatchResult<User>> createAll(List<UserDto> userDtos);
+
     User update(long id, UserDto userDto);
 
     User get(long id);
 
-    List<User> getAll();
+    void checkExists(long id);
+
+    List<User> getAll(Pageable pageable);
+
+    List<User> getAll(Collection<Long> ids);
 
     void delete(long id);
 }
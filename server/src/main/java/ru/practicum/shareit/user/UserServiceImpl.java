@@ -2,13 +2,40 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingListCache;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingTimelineIndex;
+import ru.practicum.shareit.common.batch.BatchCollector;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.cache.NegativeCache;
 import ru.practicum.shareit.common.exception.DuplicateEmailException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.transaction.AfterCommit;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.item.view.ItemViewCache;
+import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -17,12 +44,50 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final CacheManager cacheManager;
+    private final BookingListCache bookingListCache;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final BookingTimelineIndex bookingTimelineIndex;
+    private final ItemViewCache itemViewCache;
+    private final NegativeCache negativeCache;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     @Transactional
     public User create(UserDto userDto) {
         User user = userMapper.transformUserDtoToUser(userDto);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        negativeCache.forget(NegativeCache.Type.USER, savedUser.getId());
+
+        return savedUser;
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResult<User>> createAll(List<UserDto> userDtos) {
+        Set<String> emails = userRepository.findAllByEmailIn(userDtos.stream()
+                        .map(UserDto::getEmail)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(User::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        BatchCollector<User> batch = BatchCollector.prepare(userDtos, userDto -> {
+            if (!emails.add(userDto.getEmail())) {
+                log.error("Server: Пользователь c email {} уже существует!", userDto.getEmail());
+                throw new DuplicateEmailException(userDto.getEmail());
+            }
+            return userMapper.transformUserDtoToUser(userDto);
+        });
+
+        userRepository.saveAll(batch.getAccepted());
+        negativeCache.forgetAll(NegativeCache.Type.USER, batch.getAccepted().stream()
+                .map(User::getId)
+                .collect(Collectors.toList()));
+
+        return batch.toResults(Function.identity());
     }
 
     @Override
@@ -42,20 +107,84 @@ public class UserServiceImpl implements UserService {
             user.setName(userDto.getName());
         }
 
+        evict(id);
+        bookingListCache.evictUsers(BookingListCache.Role.BOOKER, List.of(id));
+        bookingListCache.evictUsers(BookingListCache.Role.OWNER, bookingRepository.findItemOwnerIdsByBookerId(id));
+        evictItemViews(id, itemRepository.findIdsByOwnerId(id));
+
         return user;
     }
 
     @Override
     public User get(long id) {
-        return userRepository.findById(id).orElseThrow(() -> {
+        User cached = cache(CacheConfig.USERS).get(id, User.class);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+        if (negativeCache.isMissing(NegativeCache.Type.USER, id)) {
+            throw new ObjectNotFoundException("Пользователь", id);
+        }
+
+        User user = userRepository.findById(id).orElseThrow(() -> {
             log.error("Server: Пользователь с ID {} не найден!", id);
+            negativeCache.markMissing(NegativeCache.Type.USER, id);
             return new ObjectNotFoundException("Пользователь", id);
         });
+        cache(CacheConfig.USERS).put(id, copyOf(user));
+
+        return user;
     }
 
     @Override
-    public List<User> getAll() {
-        return userRepository.findAll();
+    public void checkExists(long id) {
+        if (cache(CacheConfig.USERS).get(id) != null || cache(CacheConfig.EXISTING_USER_IDS).get(id) != null) {
+            return;
+        }
+        if (negativeCache.isMissing(NegativeCache.Type.USER, id)) {
+            throw new ObjectNotFoundException("Пользователь", id);
+        }
+
+        if (!userRepository.existsById(id)) {
+            log.error("Server: Пользователь с ID {} не найден!", id);
+            negativeCache.markMissing(NegativeCache.Type.USER, id);
+            throw new ObjectNotFoundException("Пользователь", id);
+        }
+        cache(CacheConfig.EXISTING_USER_IDS).put(id, Boolean.TRUE);
+    }
+
+    @Override
+    public List<User> getAll(Pageable pageable) {
+        return userRepository.findAllByOrderByIdAsc(pageable);
+    }
+
+    @Override
+    public List<User> getAll(Collection<Long> ids) {
+        Map<Long, User> users = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            User cached = cache(CacheConfig.USERS).get(id, User.class);
+            if (cached != null) {
+                users.put(id, copyOf(cached));
+            } else if (!negativeCache.isMissing(NegativeCache.Type.USER, id)) {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user -> {
+                cache(CacheConfig.USERS).put(user.getId(), copyOf(user));
+                users.put(user.getId(), user);
+            });
+            missing.stream()
+                    .filter(id -> !users.containsKey(id))
+                    .forEach(id -> negativeCache.markMissing(NegativeCache.Type.USER, id));
+        }
+
+        return ids.stream()
+                .distinct()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -65,7 +194,48 @@ public class UserServiceImpl implements UserService {
             log.error("Server: Пользователь с ID {} не найден!", id);
             return new ObjectNotFoundException("Пользователь", id);
         });
+        Set<Long> timelineItemIds = new HashSet<>(bookingRepository.findItemIdsByBookerId(id));
+        timelineItemIds.addAll(itemRepository.findIdsByOwnerId(id));
+        evictItemViews(id, timelineItemIds);
         userRepository.deleteById(id);
+        evict(id);
+        bookingListCache.evictAll();
+        evictCascadedEntities();
+        AfterCommit.run(() -> timelineItemIds.forEach(bookingTimelineIndex::remove));
+    }
+
+    private void evictItemViews(long id, Collection<Long> itemIds) {
+        Set<Long> viewItemIds = new HashSet<>(itemIds);
+        viewItemIds.addAll(commentRepository.findItemIdsByAuthorId(id));
+        itemViewCache.evictAll(viewItemIds);
+    }
+
+    private void evictCascadedEntities() {
+        Runnable eviction = () -> {
+            entityManagerFactory.getCache().evict(Item.class);
+            entityManagerFactory.getCache().evict(Request.class);
+        };
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    private void evict(long id) {
+        Runnable eviction = () -> {
+            cache(CacheConfig.USERS).evict(id);
+            cache(CacheConfig.EXISTING_USER_IDS).evict(id);
+        };
+
+        eviction.run();
+        AfterCommit.run(eviction);
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getId(), user.getName(), user.getEmail());
     }
 
     private void emailExistingCheck(String email) {
@@ -2,13 +2,16 @@ package ru.practicum.shareit;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemOwnerView;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TestData {
@@ -22,6 +25,17 @@ public class TestData {
                 .build();
     }
 
+    public static ItemOwnerView createTestItemOwnerView(Item item) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ItemOwnerView.class, Map.of(
+                "id", item.getId(),
+                "name", item.getName(),
+                "description", item.getDescription(),
+                "available", item.getAvailable(),
+                "ownerId", item.getOwner().getId(),
+                "ownerName", item.getOwner().getName(),
+                "ownerEmail", item.getOwner().getEmail()));
+    }
+
     public static ItemDto createTestItemDto(boolean available, Long requestId) {
         return ItemDto.builder()
                 .name("Тестовый предмет")
@@ -10,6 +10,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.common.pagination.CursorPage;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BookingController.class)
@@ -135,4 +137,22 @@ public class BookingControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
         verify(bookingService,times(1)).getItemBookingsByOwnerId(anyLong(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Проверка получения бронирований бронирующего по курсору с заголовком следующей страницы")
+    void checkGetBookingsByBookerIdWithCursorShouldReturnNextCursorHeader() throws Exception {
+        long bookerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = LocalDateTime.of(2123, 2, 1, 9, 0);
+        List<Booking> expectedList = List.of(new Booking(1L, start, end, null, null, BookingStatus.WAITING));
+
+        when(bookingService.getBookingsByBookerId(bookerId, BookingState.ALL, "", 20))
+                .thenReturn(new CursorPage<>(expectedList, "next"));
+
+        mockMvc.perform(get("/bookings").header(HEADER_USER_ID, bookerId).queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
+        verify(bookingService, never()).getBookingsByBookerId(anyLong(), any(), any());
+    }
+}
@@ -101,4 +101,162 @@ public class BookingRepositoryTest {
         assertTrue(userBookings.contains(booking1));
         assertTrue(userBookings.contains(booking2));
     }
+
+    @Test
+    @DisplayName("Проверка метода получения подтверждённых бронирований для списка вещей")
+    void checkFindAllByItemIdInAndStatusShouldReturnApprovedBookingsOfAllItems() {
+        User booker = TestData.createTestUser(1L);
+        userRepository.save(booker);
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("another@test.ru");
+        userRepository.save(owner);
+
+        Item item1 = new Item(1L, "Test", "Description", true,
+                owner, null, null, null, null);
+        Item item2 = new Item(2L, "Name", "Description", true,
+                owner, null, null, null, null);
+        Item item3 = new Item(3L, "Other", "Description", true,
+                owner, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        Booking booking1 = new Booking(1L, start.plusDays(1), start.plusDays(2), item1, booker,
+                BookingStatus.APPROVED);
+        Booking booking2 = new Booking(2L, start, start.plusDays(1), item2, booker, BookingStatus.APPROVED);
+        Booking booking3 = new Booking(3L, start, start.plusDays(1), item2, booker, BookingStatus.WAITING);
+        Booking booking4 = new Booking(4L, start, start.plusDays(1), item3, booker, BookingStatus.APPROVED);
+        bookingRepository.save(booking1);
+        bookingRepository.save(booking2);
+        bookingRepository.save(booking3);
+        bookingRepository.save(booking4);
+
+        List<Booking> bookings = bookingRepository.findAllByItemIdInAndStatusOrderByStartAsc(
+                List.of(item1.getId(), item2.getId()), BookingStatus.APPROVED);
+
+        assertThat(bookings).isEqualTo(List.of(booking2, booking1));
+    }
+
+    @Test
+    @DisplayName("Проверка постраничного получения бронирований бронирующего по курсору при совпадении дат начала")
+    void checkFindAllByBookerIdBeforeKeysetShouldContinueAfterLastBookingWithSameStart() {
+        User booker = TestData.createTestUser(1L);
+        userRepository.save(booker);
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("another@test.ru");
+        userRepository.save(owner);
+
+        Item item = new Item(1L, "Test", "Description", true,
+                owner, null, null, null, null);
+        itemRepository.save(item);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        Booking booking1 = new Booking(1L, start.minusDays(1), start, item, booker, BookingStatus.APPROVED);
+        Booking booking2 = new Booking(2L, start, start.plusDays(1), item, booker, BookingStatus.APPROVED);
+        Booking booking3 = new Booking(3L, start, start.plusDays(1), item, booker, BookingStatus.WAITING);
+        bookingRepository.save(booking1);
+        bookingRepository.save(booking2);
+        bookingRepository.save(booking3);
+
+        List<Booking> firstPage = bookingRepository.findAllByBookerIdBeforeKeyset(booker.getId(),
+                LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, Pagination.firstRows(2));
+        List<Booking> secondPage = bookingRepository.findAllByBookerIdBeforeKeyset(booker.getId(),
+                start, booking2.getId(), Pagination.firstRows(2));
+
+        assertThat(firstPage).isEqualTo(List.of(booking3, booking2));
+        assertThat(secondPage).isEqualTo(List.of(booking1));
+    }
+
+    @Test
+    @DisplayName("Проверка постраничного получения бронирований собственника по курсору с фильтром по статусу")
+    void checkFindAllByItemOwnerIdAndStatusBeforeKeysetShouldSkipOtherStatuses() {
+        User booker = TestData.createTestUser(1L);
+        userRepository.save(booker);
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("another@test.ru");
+        userRepository.save(owner);
+
+        Item item = new Item(1L, "Test", "Description", true,
+                owner, null, null, null, null);
+        itemRepository.save(item);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        Booking booking1 = new Booking(1L, start.minusDays(1), start, item, booker, BookingStatus.WAITING);
+        Booking booking2 = new Booking(2L, start, start.plusDays(1), item, booker, BookingStatus.APPROVED);
+        Booking booking3 = new Booking(3L, start, start.plusDays(1), item, booker, BookingStatus.WAITING);
+        Booking booking4 = new Booking(4L, start.plusDays(1), start.plusDays(2), item, booker, BookingStatus.WAITING);
+        bookingRepository.save(booking1);
+        bookingRepository.save(booking2);
+        bookingRepository.save(booking3);
+        bookingRepository.save(booking4);
+
+        List<Booking> firstPage = bookingRepository.findAllByItemOwnerIdAndStatusBeforeKeyset(owner.getId(),
+                BookingStatus.WAITING, LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE,
+                Pagination.firstRows(2));
+        List<Booking> secondPage = bookingRepository.findAllByItemOwnerIdAndStatusBeforeKeyset(owner.getId(),
+                BookingStatus.WAITING, start, booking3.getId(), Pagination.firstRows(2));
+
+        assertThat(firstPage).isEqualTo(List.of(booking4, booking3));
+        assertThat(secondPage).isEqualTo(List.of(booking1));
+    }
+
+    @Test
+    @DisplayName("Проверка метода получения вещей, занятых подтверждёнными бронированиями в заданный период")
+    void checkFindItemIdsBookedBetweenShouldReturnItemsWithOverlappingApprovedBookings() {
+        User booker = TestData.createTestUser(1L);
+        userRepository.save(booker);
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("another@test.ru");
+        userRepository.save(owner);
+
+        Item item1 = new Item(1L, "Test", "Description", true,
+                owner, null, null, null, null);
+        Item item2 = new Item(2L, "Name", "Description", true,
+                owner, null, null, null, null);
+        Item item3 = new Item(3L, "Other", "Description", true,
+                owner, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        bookingRepository.save(new Booking(1L, start.minusDays(1), start.plusHours(1), item1, booker,
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(2L, start.minusDays(1), start, item2, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(3L, start, start.plusDays(1), item2, booker, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(4L, start, start.plusDays(1), item3, booker, BookingStatus.APPROVED));
+
+        List<Long> booked = bookingRepository.findItemIdsBookedBetween(List.of(item1.getId(), item2.getId()),
+                BookingStatus.APPROVED, start, start.plusDays(1));
+
+        assertThat(booked).isEqualTo(List.of(item1.getId()));
+    }
+
+    @Test
+    @DisplayName("Проверка метода получения ближайшей смены состояния бронирований пользователя")
+    void checkFindNextBoundaryShouldReturnNearestStartOrEndAfterNow() {
+        User booker = TestData.createTestUser(1L);
+        userRepository.save(booker);
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("another@test.ru");
+        userRepository.save(owner);
+
+        Item item = new Item(1L, "Test", "Description", true,
+                owner, null, null, null, null);
+        itemRepository.save(item);
+
+        LocalDateTime now = LocalDateTime.of(2123, 1, 1, 9, 0);
+        bookingRepository.save(new Booking(1L, now.minusDays(2), now.minusDays(1), item, booker,
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(2L, now.minusDays(1), now.plusDays(2), item, booker,
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(3L, now.plusDays(1), now.plusDays(3), item, booker,
+                BookingStatus.WAITING));
+
+        assertThat(bookingRepository.findNextBoundaryByBookerId(booker.getId(), now)).isEqualTo(now.plusDays(1));
+        assertThat(bookingRepository.findNextBoundaryByItemOwnerId(owner.getId(), now.plusDays(1)))
+                .isEqualTo(now.plusDays(2));
+        assertThat(bookingRepository.findNextBoundaryByBookerId(booker.getId(), now.plusDays(3))).isNull();
+    }
 }
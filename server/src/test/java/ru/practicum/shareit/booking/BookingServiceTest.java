@@ -9,23 +9,36 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.TestData;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.cache.NegativeCache;
 import ru.practicum.shareit.common.exception.BookingException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
 import ru.practicum.shareit.common.exception.SelfItemBookingException;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.item.Item;
-import ru.practicum.shareit.item.ItemMapper;
-import ru.practicum.shareit.item.ItemService;
-import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.comment.CommentMapper;
+import ru.practicum.shareit.item.comment.CommentService;
+import ru.practicum.shareit.item.view.ItemViewCache;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -35,12 +48,23 @@ public class BookingServiceTest {
     private BookingRepository bookingRepository;
     @Spy
     private BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
-    @Spy
-    private ItemMapper itemMapper = Mappers.getMapper(ItemMapper.class);
     @Mock
     private UserService userService;
     @Mock
-    ItemService itemService;
+    private ItemRepository itemRepository;
+    @Mock
+    private BookingTimelineIndex bookingTimelineIndex;
+    @Mock
+    private ItemViewCache itemViewCache;
+    @Spy
+    private BookingListCache bookingListCache = new BookingListCache(new ConcurrentMapCacheManager(
+            CacheConfig.BOOKING_LISTS, CacheConfig.BOOKING_LIST_VERSIONS));
+    @Mock
+    private NegativeCache negativeCache;
+    @Mock
+    private CommentService commentService;
+    @Spy
+    private CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
 
     @InjectMocks
     private BookingServiceImpl bookingService;
@@ -55,15 +79,67 @@ public class BookingServiceTest {
                 null);
         User user = TestData.createTestUser(2L);
         Item item = TestData.createTestItem(itemId, true, user);
-        ItemDto itemDto = itemMapper.transformItemToItemDto(item);
 
-        when(itemService.get(itemId, userId)).thenReturn(itemDto);
-        when(bookingRepository.save(any())).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
+        when(bookingRepository.save(any())).thenAnswer(invocationOnMock -> {
+            Booking saved = invocationOnMock.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
 
         Booking booking = bookingService.create(bookingDto, userId);
 
         assertThat(booking.getStatus()).isEqualTo(BookingStatus.WAITING);
-        assertThat(booking.getItem()).isEqualTo(item);
+        assertThat(booking.getItem().getId()).isEqualTo(itemId);
+        assertThat(booking.getItem().getName()).isEqualTo(item.getName());
+        assertThat(booking.getItem().getOwner()).isEqualTo(user);
+        assertThat(booking.getItem().getDescription()).isEqualTo(item.getDescription());
+        assertThat(booking.getItem().getComments()).isEmpty();
+        verify(itemRepository).getReferenceById(itemId);
+        verify(itemRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Проверка получения отзывов о вещи из кеша представлений при создании бронирования")
+    void checkCreateShouldTakeCommentsFromCachedItemView() {
+        long itemId = 1L;
+        User user = TestData.createTestUser(2L);
+        Item item = TestData.createTestItem(itemId, true, user);
+        List<CommentDto> comments = List.of(new CommentDto(1L, "Отличная вещь", "Автор", LocalDateTime.now()));
+
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
+        when(itemViewCache.findComments(itemId)).thenReturn(Optional.of(comments));
+        when(bookingRepository.save(any())).thenAnswer(invocationOnMock -> {
+            Booking saved = invocationOnMock.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+
+        Booking booking = bookingService.create(new BookingDto(itemId, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), null), 1L);
+
+        assertThat(booking.getItem().getComments()).isEqualTo(comments);
+        verifyNoInteractions(commentService);
+    }
+
+    @Test
+    @DisplayName("Проверка метода создания бронирования на уже занятые даты")
+    void checkCreateShouldThrowBookingExceptionIfDatesAreAlreadyBooked() {
+        long userId = 1L;
+        long itemId = 1L;
+
+        BookingDto bookingDto = new BookingDto(itemId, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                null);
+        User user = TestData.createTestUser(2L);
+        Item item = TestData.createTestItem(itemId, true, user);
+
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
+        when(bookingTimelineIndex.findConflict(itemId, bookingDto.getStart(), bookingDto.getEnd()))
+                .thenReturn(Optional.of(5L));
+
+        assertThatThrownBy(() -> bookingService.create(bookingDto, userId))
+                .isInstanceOf(BookingException.class);
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
@@ -76,9 +152,8 @@ public class BookingServiceTest {
                 null);
         User user = TestData.createTestUser(2L);
         Item item = TestData.createTestItem(itemId, true, user);
-        ItemDto itemDto = itemMapper.transformItemToItemDto(item);
 
-        when(itemService.get(itemId, userId)).thenReturn(itemDto);
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
 
         assertThatThrownBy(() -> bookingService.create(bookingDto, userId)).isInstanceOf(BookingException.class);
     }
@@ -93,9 +168,8 @@ public class BookingServiceTest {
                 null);
         User user = TestData.createTestUser(userId);
         Item item = TestData.createTestItem(itemId, true, user);
-        ItemDto itemDto = itemMapper.transformItemToItemDto(item);
 
-        when(itemService.get(itemId, userId)).thenReturn(itemDto);
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
 
         assertThatThrownBy(() -> bookingService.create(bookingDto, userId))
                 .isInstanceOf(SelfItemBookingException.class);
@@ -111,9 +185,8 @@ public class BookingServiceTest {
                 null);
         User user = TestData.createTestUser(userId);
         Item item = TestData.createTestItem(itemId, false, user);
-        ItemDto itemDto = itemMapper.transformItemToItemDto(item);
 
-        when(itemService.get(itemId, userId)).thenReturn(itemDto);
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
 
         assertThatThrownBy(() -> bookingService.create(bookingDto, userId))
                 .isInstanceOf(BookingException.class);
@@ -128,10 +201,12 @@ public class BookingServiceTest {
         BookingDto bookingDto = new BookingDto(itemId, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
                 null);
 
-        when(itemService.get(itemId, userId)).thenThrow(new ObjectNotFoundException("Вещь", itemId));
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.create(bookingDto, userId))
                 .isInstanceOf(ObjectNotFoundException.class);
+        verify(negativeCache).markMissing(NegativeCache.Type.ITEM, itemId);
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
@@ -168,6 +243,29 @@ public class BookingServiceTest {
         booking = bookingService.update(bookingId, userId, true);
 
         assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        verify(itemViewCache, times(1)).evict(itemId);
+    }
+
+    @Test
+    @DisplayName("Проверка метода утверждения бронирования, пересекающегося с уже утверждённым")
+    void checkUpdateShouldThrowBookingExceptionIfApprovedDatesOverlap() {
+        long userId = 1L;
+        long itemId = 1L;
+        long bookingId = 1L;
+
+        User user = TestData.createTestUser(userId);
+        Item item = TestData.createTestItem(itemId, true, user);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = LocalDateTime.of(2123, 2, 1, 9, 0);
+        Booking booking = new Booking(bookingId, start, end, item, user, BookingStatus.WAITING);
+
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingTimelineIndex.reserve(itemId, bookingId, start, end)).thenReturn(Optional.of(2L));
+
+        assertThatThrownBy(() -> bookingService.update(userId, bookingId, true))
+                .isInstanceOf(BookingException.class);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.WAITING);
     }
 
     @Test
@@ -368,4 +466,148 @@ public class BookingServiceTest {
         verify(bookingRepository, times(1))
                 .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Проверка повторного получения бронирований бронирующего из кеша")
+    void checkGetBookingsByBookerIdShouldReturnCachedListOnSecondCall() {
+        bookingService.getBookingsByBookerId(1L, BookingState.ALL, null);
+        bookingService.getBookingsByBookerId(1L, BookingState.ALL, null);
+
+        verify(bookingRepository, times(1)).findAllByBookerIdOrderByStartDesc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка сброса кеша бронирований бронирующего и собственника при создании бронирования")
+    void checkCreateShouldEvictBookingListsOfBookerAndOwner() {
+        long userId = 1L;
+        long ownerId = 2L;
+        long itemId = 1L;
+
+        BookingDto bookingDto = new BookingDto(itemId, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                null);
+        Item item = TestData.createTestItem(itemId, true, TestData.createTestUser(ownerId));
+
+        when(itemRepository.findOwnerViewById(itemId)).thenReturn(Optional.of(TestData.createTestItemOwnerView(item)));
+        when(bookingRepository.save(any())).thenAnswer(invocationOnMock -> {
+            Booking saved = invocationOnMock.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+
+        bookingService.getBookingsByBookerId(userId, BookingState.WAITING, null);
+        bookingService.getItemBookingsByOwnerId(ownerId, BookingState.WAITING, null);
+        bookingService.create(bookingDto, userId);
+        bookingService.getBookingsByBookerId(userId, BookingState.WAITING, null);
+        bookingService.getItemBookingsByOwnerId(ownerId, BookingState.WAITING, null);
+
+        verify(bookingListCache).evict(userId, ownerId);
+        verify(bookingRepository, times(2)).findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(), any());
+        verify(bookingRepository, times(2)).findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка устаревания кеша будущих бронирований с наступлением начала бронирования")
+    void checkGetItemBookingsByOwnerIdShouldReloadFutureBookingsAfterStartOfBooking() {
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        Booking booking = new Booking(1L, start, start.plusDays(1), null, null, BookingStatus.APPROVED);
+
+        when(bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(), any()))
+                .thenReturn(List.of(booking));
+
+        bookingService.getItemBookingsByOwnerId(1L, BookingState.FUTURE, null);
+        bookingService.getItemBookingsByOwnerId(1L, BookingState.FUTURE, null);
+
+        verify(bookingRepository, times(2))
+                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка повторного запроса несуществующего бронирования без обращения к базе данных")
+    void checkGetByIdShouldNotQueryRepositoryIfBookingIsKnownToBeMissing() {
+        when(negativeCache.isMissing(NegativeCache.Type.BOOKING, 1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.getById(1L, 1L)).isInstanceOf(ObjectNotFoundException.class);
+        verify(bookingRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Проверка получения страницы бронирований бронирующего по курсору")
+    void checkGetBookingsByBookerIdWithCursorShouldReturnPageAndNextCursor() {
+        long bookerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        Booking booking1 = new Booking(3L, start, start.plusDays(1), null, null, BookingStatus.APPROVED);
+        Booking booking2 = new Booking(2L, start, start.plusDays(1), null, null, BookingStatus.APPROVED);
+        Booking booking3 = new Booking(1L, start.minusDays(1), start, null, null, BookingStatus.APPROVED);
+
+        when(bookingRepository.findAllByBookerIdBeforeKeyset(eq(bookerId), any(), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(booking1, booking2, booking3));
+
+        CursorPage<Booking> page = bookingService.getBookingsByBookerId(bookerId, BookingState.ALL, null, 2);
+
+        assertThat(page.getContent()).isEqualTo(List.of(booking1, booking2));
+        assertThat(page.getNextCursor()).isEqualTo(Cursor.encode(start, 2L));
+    }
+
+    @Test
+    @DisplayName("Проверка получения бронирований собственника по курсору с фильтром по состоянию")
+    void checkGetItemBookingsByOwnerIdWithCursorShouldUseKeysetQueryForState() {
+        long ownerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 9, 0);
+        Booking booking1 = new Booking(2L, start, start.plusDays(1), null, null, BookingStatus.APPROVED);
+        Booking booking2 = new Booking(1L, start.minusDays(2), start.minusDays(1), null, null, BookingStatus.APPROVED);
+
+        when(bookingRepository.findPastByItemOwnerIdBeforeKeyset(eq(ownerId), any(), any(), eq(Long.MAX_VALUE),
+                eq(Pagination.firstRows(2)))).thenReturn(List.of(booking1, booking2));
+
+        CursorPage<Booking> page = bookingService.getItemBookingsByOwnerId(ownerId, BookingState.PAST, null, 1);
+
+        assertThat(page.getContent()).isEqualTo(List.of(booking1));
+        assertThat(page.getNextCursor()).isEqualTo(Cursor.encode(start, 2L));
+        verify(bookingRepository, never()).findAllByItemOwnerIdBeforeKeyset(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка получения бронирований бронирующего по курсору со статусом WAITING")
+    void checkGetBookingsByBookerIdWithCursorShouldFilterByStatus() {
+        long bookerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+
+        bookingService.getBookingsByBookerId(bookerId, BookingState.WAITING, Cursor.encode(start, 5L), 20);
+
+        verify(bookingRepository).findAllByBookerIdAndStatusBeforeKeyset(bookerId, BookingStatus.WAITING, start, 5L,
+                Pagination.firstRows(21));
+    }
+
+    @Test
+    @DisplayName("Проверка пакетного создания бронирований с результатом по каждому бронированию")
+    void checkCreateAllShouldReportResultForEachBookingAndSaveValidOnesAtOnce() {
+        long userId = 1L;
+        long ownerId = 2L;
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Item item = TestData.createTestItem(1L, true, TestData.createTestUser(ownerId));
+        Item ownItem = TestData.createTestItem(2L, true, TestData.createTestUser(userId));
+        List<BookingDto> bookingDtos = List.of(new BookingDto(item.getId(), start, start.plusDays(1), null),
+                new BookingDto(99L, start, start.plusDays(1), null),
+                new BookingDto(ownItem.getId(), start, start.plusDays(1), null),
+                new BookingDto(item.getId(), start.plusDays(1), start, null));
+
+        when(itemRepository.findOwnerViewsByIdIn(anyCollection())).thenReturn(List.of(
+                TestData.createTestItemOwnerView(item), TestData.createTestItemOwnerView(ownItem)));
+        when(itemRepository.getReferenceById(item.getId())).thenReturn(item);
+        when(bookingRepository.saveAll(anyCollection())).thenAnswer(invocationOnMock -> {
+            Collection<Booking> bookings = invocationOnMock.getArgument(0);
+            bookings.forEach(booking -> booking.setId(1L));
+            return new ArrayList<>(bookings);
+        });
+
+        List<BatchResult<Booking>> results = bookingService.createAll(bookingDtos, userId);
+
+        assertThat(results).extracting(BatchResult::getStatus).containsExactly(201, 404, 404, 400);
+        assertThat(results.get(0).getBody().getStatus()).isEqualTo(BookingStatus.WAITING);
+        assertThat(results.get(0).getBody().getItem().getName()).isEqualTo(item.getName());
+        assertThat(results.get(0).getBody().getItem().getOwner()).isEqualTo(item.getOwner());
+        verify(bookingRepository, times(1)).saveAll(anyCollection());
+        verify(bookingRepository, never()).save(any());
+        verify(bookingListCache).evict(userId, ownerId);
+    }
+}
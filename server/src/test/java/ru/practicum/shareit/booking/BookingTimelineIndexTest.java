@@ -0,0 +1,145 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingTimelineIndexTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2123, 1, 1, 0, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingTimelineIndex bookingTimelineIndex;
+
+    private final User user = TestData.createTestUser(1L);
+    private final Item item = TestData.createTestItem(1L, true, user);
+
+    @BeforeEach
+    void setUp() {
+        bookingTimelineIndex = new BookingTimelineIndex(bookingRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Проверка поиска пересечения с подтверждёнными бронированиями из базы данных")
+    void checkFindConflictShouldDetectOverlapWithApprovedBookings() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of(createBooking(1L, 1, 3), createBooking(2L, 5, 7)));
+
+        assertThat(bookingTimelineIndex.findConflict(1L, day(2), day(4))).isEqualTo(Optional.of(1L));
+        assertThat(bookingTimelineIndex.findConflict(1L, day(0), day(10))).isEqualTo(Optional.of(2L));
+        assertThat(bookingTimelineIndex.findConflict(1L, day(6), day(6).plusHours(1))).isEqualTo(Optional.of(2L));
+        assertThat(bookingTimelineIndex.findConflict(1L, day(3), day(5))).isEmpty();
+        assertThat(bookingTimelineIndex.findConflict(1L, day(7), day(8))).isEmpty();
+        verify(bookingRepository, times(1)).findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Проверка поиска пересечения с накладывающимися подтверждёнными бронированиями")
+    void checkFindConflictShouldDetectOverlapWithEarlierLongerBooking() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of(createBooking(1L, 1, 10), createBooking(2L, 2, 3), createBooking(3L, 4, 5)));
+
+        assertThat(bookingTimelineIndex.findConflict(1L, day(6), day(7))).isEqualTo(Optional.of(1L));
+        assertThat(bookingTimelineIndex.reserve(1L, 4L, day(8), day(9))).isEqualTo(Optional.of(1L));
+        assertThat(bookingTimelineIndex.findConflict(1L, day(10), day(11))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка резервирования дат и отказа при пересечении")
+    void checkReserveShouldRejectOverlappingReservation() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of());
+
+        assertThat(bookingTimelineIndex.reserve(1L, 1L, day(1), day(3))).isEmpty();
+        assertThat(bookingTimelineIndex.reserve(1L, 2L, day(2), day(4))).isEqualTo(Optional.of(1L));
+        assertThat(bookingTimelineIndex.reserve(1L, 3L, day(3), day(4))).isEmpty();
+        assertThat(bookingTimelineIndex.findConflict(1L, day(2), day(4))).isEqualTo(Optional.of(3L));
+    }
+
+    @Test
+    @DisplayName("Проверка освобождения дат отменённого резервирования")
+    void checkReleaseShouldFreeReservedDates() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of(createBooking(1L, 1, 3)));
+
+        assertThat(bookingTimelineIndex.findConflict(1L, day(2), day(4))).isEqualTo(Optional.of(1L));
+
+        bookingTimelineIndex.release(1L, 1L);
+
+        assertThat(bookingTimelineIndex.findConflict(1L, day(2), day(4))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка исключения завершившихся бронирований при загрузке и резервировании")
+    void checkTimelineShouldPruneEndedReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of(new Booking(1L, now.minusDays(3), now.minusDays(2), item, user,
+                        BookingStatus.APPROVED), createBooking(2L, 1, 3)));
+
+        assertThat(bookingTimelineIndex.findConflict(1L, now.minusDays(4), now.minusDays(1))).isEmpty();
+        assertThat(bookingTimelineIndex.reserve(1L, 3L, now.minusHours(2), now.minusHours(1))).isEmpty();
+        assertThat(bookingTimelineIndex.reserve(1L, 4L, day(4), day(5))).isEmpty();
+
+        assertThat(bookingTimelineIndex.findConflict(1L, now.minusDays(4), now)).isEmpty();
+        assertThat(bookingTimelineIndex.findConflict(1L, day(2), day(5))).isEqualTo(Optional.of(4L));
+    }
+
+    @Test
+    @DisplayName("Проверка повторной загрузки бронирований после удаления вещи из индекса")
+    void checkRemoveShouldDropItemTimeline() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED))
+                .thenReturn(List.of(createBooking(1L, 1, 3)));
+
+        bookingTimelineIndex.findConflict(1L, day(2), day(4));
+        bookingTimelineIndex.remove(1L);
+        bookingTimelineIndex.findConflict(1L, day(2), day(4));
+
+        verify(bookingRepository, times(2)).findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Проверка ограничения количества вещей в индексе")
+    void checkTimelineShouldKeepLimitedNumberOfItems() {
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(anyLong(), eq(BookingStatus.APPROVED)))
+                .thenReturn(List.of());
+
+        for (long itemId = 1; itemId <= 10; itemId++) {
+            bookingTimelineIndex.findConflict(itemId, day(1), day(2));
+        }
+        for (long itemId = 1; itemId <= 10; itemId++) {
+            bookingTimelineIndex.findConflict(itemId, day(1), day(2));
+        }
+
+        verify(bookingRepository, atLeast(18)).findAllByItemIdAndStatusOrderByStartAsc(anyLong(),
+                eq(BookingStatus.APPROVED));
+    }
+
+    private Booking createBooking(long id, int startDay, int endDay) {
+        return new Booking(id, day(startDay), day(endDay), item, user, BookingStatus.APPROVED);
+    }
+
+    private LocalDateTime day(int day) {
+        return DAY.plusDays(day);
+    }
+}
@@ -56,4 +56,32 @@ public class CommentRepositoryTest {
         assertThat(expectedList).isEqualTo(actualList);
         assertThat(expectedList.size()).isEqualTo(actualList.size());
     }
+
+    @Test
+    @DisplayName("Проверка метода поиска всех комментариев для списка вещей")
+    void checkFindAllByItemIdInShouldReturnCommentsOfAllItems() {
+        User owner = TestData.createTestUser(1L);
+        User author = TestData.createTestUser(2L);
+        author.setEmail("test2@test.ru");
+        userRepository.save(owner);
+        userRepository.save(author);
+
+        Item item1 = TestData.createTestItem(1L, true, owner);
+        Item item2 = TestData.createTestItem(2L, true, owner);
+        Item item3 = TestData.createTestItem(3L, true, owner);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        Comment comment1 = new Comment(1L, "Комментарий", item1, author, LocalDateTime.now());
+        Comment comment2 = new Comment(2L, "Комментарий", item2, author, LocalDateTime.now());
+        Comment comment3 = new Comment(3L, "Комментарий", item3, author, LocalDateTime.now());
+        commentRepository.save(comment1);
+        commentRepository.save(comment2);
+        commentRepository.save(comment3);
+
+        List<Comment> actualList = commentRepository.findAllByItemIdIn(List.of(item1.getId(), item2.getId()));
+
+        assertThat(actualList).containsExactlyInAnyOrder(comment1, comment2);
+    }
 }
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.common;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class BatchInsertTest {
+    private static final int COUNT = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Проверка пакетной вставки пользователей и вещей с выделением ID блоками")
+    void checkSaveAllShouldInsertUsersAndItemsInBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<User> users = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            User user = TestData.createTestUser(0L);
+            user.setId(null);
+            user.setEmail("user" + i + "@test.ru");
+            users.add(user);
+
+            Item item = TestData.createTestItem(0L, true, user);
+            item.setId(null);
+            items.add(item);
+        }
+        userRepository.saveAll(users);
+        itemRepository.saveAll(items);
+        testEntityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2 * COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(users.stream().map(User::getId).collect(Collectors.toSet())).hasSize(COUNT);
+    }
+}
@@ -0,0 +1,161 @@
+package ru.practicum.shareit.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 1000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String INSERT_WITH_ID = "INSERT INTO users (id, name, email) VALUES (?, ?, ?)";
+    private static final String INSERT_IDENTITY = "INSERT INTO users (name, email) VALUES (?, ?)";
+
+    public enum IdStrategy {
+        IDENTITY,
+        POOLED_SEQUENCE
+    }
+
+    @Param({"IDENTITY", "POOLED_SEQUENCE"})
+    private IdStrategy idStrategy;
+
+    @Param({"jdbc:h2:mem:insert-benchmark"})
+    private String url;
+
+    @Param({"test"})
+    private String user;
+
+    @Param({"test"})
+    private String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement nextValue;
+    private long nextId;
+    private long lastAllocatedId;
+    private long emailCounter;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BulkInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+            statement.execute("DROP SEQUENCE IF EXISTS users_seq");
+            statement.execute("CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL, " +
+                    "name VARCHAR(255) NOT NULL, email VARCHAR(512) NOT NULL, " +
+                    "CONSTRAINT pk_user PRIMARY KEY (id), CONSTRAINT uq_user_email UNIQUE (email))");
+        }
+        connection.setAutoCommit(false);
+
+        if (idStrategy == IdStrategy.IDENTITY) {
+            insert = connection.prepareStatement(INSERT_IDENTITY, Statement.RETURN_GENERATED_KEYS);
+        } else {
+            insert = connection.prepareStatement(INSERT_WITH_ID);
+            nextValue = connection.prepareStatement("SELECT nextval('users_seq')");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE users");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        if (nextValue != null) {
+            nextValue.close();
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long insertUsers() throws SQLException {
+        long lastId = idStrategy == IdStrategy.IDENTITY ? insertOneByOne() : insertInBatches();
+        connection.commit();
+        return lastId;
+    }
+
+    private long insertOneByOne() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < ROWS; i++) {
+            insert.setString(1, "Пользователь");
+            insert.setString(2, nextEmail());
+            insert.executeUpdate();
+
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        return lastId;
+    }
+
+    private long insertInBatches() throws SQLException {
+        long lastId = 0;
+        for (int i = 1; i <= ROWS; i++) {
+            lastId = allocateId();
+            insert.setLong(1, lastId);
+            insert.setString(2, "Пользователь");
+            insert.setString(3, nextEmail());
+            insert.addBatch();
+            if (i % ALLOCATION_SIZE == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        return lastId;
+    }
+
+    private long allocateId() throws SQLException {
+        if (nextId == lastAllocatedId) {
+            try (ResultSet resultSet = nextValue.executeQuery()) {
+                resultSet.next();
+                nextId = resultSet.getLong(1);
+                lastAllocatedId = nextId + ALLOCATION_SIZE;
+            }
+        }
+        return nextId++;
+    }
+
+    private String nextEmail() {
+        return "user" + emailCounter++ + "@benchmark.ru";
+    }
+}
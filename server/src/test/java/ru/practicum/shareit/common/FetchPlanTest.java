@@ -0,0 +1,161 @@
+package ru.practicum.shareit.common;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemOwnerView;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class FetchPlanTest {
+    private static final LocalDateTime START = LocalDateTime.of(2123, 1, 1, 9, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Проверка загрузки бронирований бронирующего вместе с вещью, владельцем и запросом одним запросом")
+    void checkBookerBookingsShouldBeLoadedWithSingleStatement() {
+        User booker = createUser(1L, "booker@test.ru");
+        Item item = createItemForRequest(createUser(2L, "owner@test.ru"), createUser(3L, "requester@test.ru"));
+        createBookings(item, booker, 5);
+
+        List<Booking> bookings = countStatements(1, () -> bookingRepository.findAllByBookerIdOrderByStartDesc(
+                booker.getId(), Pagination.splitByPages(0, 20)));
+
+        assertThat(bookings).hasSize(5).allSatisfy(this::assertFullyLoaded);
+    }
+
+    @Test
+    @DisplayName("Проверка загрузки бронирований собственника по курсору вместе со связанными сущностями одним запросом")
+    void checkOwnerBookingsByKeysetShouldBeLoadedWithSingleStatement() {
+        User booker = createUser(1L, "booker@test.ru");
+        User owner = createUser(2L, "owner@test.ru");
+        Item item = createItemForRequest(owner, createUser(3L, "requester@test.ru"));
+        createBookings(item, booker, 5);
+
+        List<Booking> bookings = countStatements(1, () -> bookingRepository.findAllByItemOwnerIdBeforeKeyset(
+                owner.getId(), START.plusYears(1), Long.MAX_VALUE, Pagination.firstRows(3)));
+
+        assertThat(bookings).hasSize(3).allSatisfy(this::assertFullyLoaded);
+    }
+
+    @Test
+    @DisplayName("Проверка загрузки вещи с владельцем и отзывов с авторами для карточки вещи")
+    void checkItemDetailShouldLoadOwnerAndCommentAuthors() {
+        User owner = createUser(1L, "owner@test.ru");
+        User author = createUser(2L, "author@test.ru");
+        Item item = itemRepository.save(TestData.createTestItem(0L, true, owner));
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(new Comment(null, "Отзыв " + i, item, author, START));
+        }
+
+        Item loaded = countStatements(1, () -> itemRepository.findById(item.getId()).orElseThrow());
+        List<Comment> comments = countStatements(1, () -> commentRepository.findAllByItemId(item.getId()));
+
+        PersistenceUnitUtil util = entityManagerFactory.getPersistenceUnitUtil();
+        assertThat(util.isLoaded(loaded.getOwner())).isTrue();
+        assertThat(comments).hasSize(3).allSatisfy(comment -> assertThat(util.isLoaded(comment.getAuthor())).isTrue());
+    }
+
+    @Test
+    @DisplayName("Проверка создания бронирования по ссылке на вещь без загрузки самой вещи")
+    void checkBookingShouldBePersistedAgainstItemReference() {
+        User booker = createUser(1L, "booker@test.ru");
+        User owner = createUser(2L, "owner@test.ru");
+        Item item = itemRepository.save(TestData.createTestItem(0L, true, owner));
+
+        ItemOwnerView view = countStatements(1, () -> itemRepository.findOwnerViewById(item.getId()).orElseThrow());
+        Booking booking = countStatements(1, () -> bookingRepository.save(new Booking(null, START,
+                START.plusHours(1), itemRepository.getReferenceById(view.getId()), booker, BookingStatus.WAITING)));
+
+        assertThat(view.getAvailable()).isTrue();
+        assertThat(view.getOwnerId()).isEqualTo(owner.getId());
+        assertThat(view.getOwnerEmail()).isEqualTo(owner.getEmail());
+        assertThat(view.getDescription()).isEqualTo(item.getDescription());
+        assertThat(entityManagerFactory.getPersistenceUnitUtil().isLoaded(booking.getItem())).isFalse();
+        assertThat(countStatements(1, () -> bookingRepository.findById(booking.getId()).orElseThrow()).getItem()
+                .getId()).isEqualTo(item.getId());
+    }
+
+    private User createUser(long id, String email) {
+        User user = TestData.createTestUser(id);
+        user.setId(null);
+        user.setEmail(email);
+        return userRepository.save(user);
+    }
+
+    private Item createItemForRequest(User owner, User requester) {
+        Request request = requestRepository.save(TestData.createTestRequest(0L, START, requester));
+        Item item = TestData.createTestItem(0L, true, owner);
+        item.setRequest(request);
+        return itemRepository.save(item);
+    }
+
+    private void createBookings(Item item, User booker, int count) {
+        for (int i = 0; i < count; i++) {
+            bookingRepository.save(new Booking(null, START.plusDays(i), START.plusDays(i).plusHours(1), item, booker,
+                    BookingStatus.APPROVED));
+        }
+    }
+
+    private void assertFullyLoaded(Booking booking) {
+        PersistenceUnitUtil util = entityManagerFactory.getPersistenceUnitUtil();
+
+        assertThat(util.isLoaded(booking.getBooker())).isTrue();
+        assertThat(util.isLoaded(booking.getItem())).isTrue();
+        assertThat(util.isLoaded(booking.getItem().getOwner())).isTrue();
+        assertThat(util.isLoaded(booking.getItem().getRequest())).isTrue();
+        assertThat(util.isLoaded(booking.getItem().getRequest().getUser())).isTrue();
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> action) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = action.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
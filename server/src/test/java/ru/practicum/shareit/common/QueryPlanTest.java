@@ -0,0 +1,223 @@
+package ru.practicum.shareit.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.common.QueryPlanTest$CapturedStatements")
+public class QueryPlanTest {
+    private static final LocalDateTime MOMENT = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Pageable PAGE = Pagination.splitByPages(20, 20);
+    private static final String BOOKER_START = "IDX_BOOKINGS_BOOKER_START";
+    private static final String ITEM_STATUS_START = "IDX_BOOKINGS_ITEM_STATUS_START";
+    private static final String ITEMS_OWNER = "IDX_ITEMS_OWNER_ID";
+    private static final String ITEMS_REQUEST = "IDX_ITEMS_REQUEST_ID";
+    private static final String COMMENTS_ITEM = "IDX_COMMENTS_ITEM_ID";
+    private static final String COMMENTS_AUTHOR_ITEM = "IDX_COMMENTS_AUTHOR_ITEM";
+    private static final String REQUESTS_USER_CREATED = "IDX_REQUESTS_USER_CREATED";
+    private static final String REQUESTS_CREATED_ID = "IDX_REQUESTS_CREATED_ID";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void dropForeignKeyIndexes() {
+        jdbcTemplate.queryForList("SELECT table_name, constraint_name FROM information_schema.table_constraints " +
+                        "WHERE table_schema = 'PUBLIC' AND constraint_type = 'FOREIGN KEY'")
+                .forEach(constraint -> jdbcTemplate.execute("ALTER TABLE " + constraint.get("TABLE_NAME") +
+                        " DROP CONSTRAINT " + constraint.get("CONSTRAINT_NAME")));
+    }
+
+    @Test
+    @DisplayName("Проверка наличия индексов для всех путей доступа репозиториев")
+    void checkSchemaShouldDeclareIndexesForRepositoryAccessPaths() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE table_schema = 'PUBLIC'",
+                String.class);
+
+        assertThat(indexes).contains(
+                "idx_bookings_booker_start",
+                "idx_bookings_item_status_start",
+                "idx_items_owner_id",
+                "idx_items_request_id",
+                "idx_comments_item_id",
+                "idx_requests_user_created",
+                "idx_requests_created_id");
+    }
+
+    @Test
+    @DisplayName("Проверка планов запросов бронирований бронирующего")
+    void checkBookerBookingQueriesShouldUseBookerIndex() {
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdOrderByStartDesc(1L, PAGE), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(1L, MOMENT,
+                MOMENT, PAGE), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(1L, MOMENT, PAGE),
+                BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(1L, MOMENT, PAGE),
+                BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(1L, BookingStatus.WAITING,
+                PAGE), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdBeforeKeyset(1L, MOMENT, 5L,
+                Pagination.firstRows(21)), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findCurrentByBookerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findPastByBookerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findFutureByBookerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findAllByBookerIdAndStatusBeforeKeyset(1L, BookingStatus.WAITING,
+                MOMENT, 5L, Pagination.firstRows(21)), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findNextBoundaryByBookerId(1L, MOMENT), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findItemOwnerIdsByBookerId(1L), BOOKER_START);
+        assertPlanUses(() -> bookingRepository.findItemIdsByBookerId(1L), BOOKER_START);
+    }
+
+    @Test
+    @DisplayName("Проверка планов запросов бронирований собственника вещей")
+    void checkOwnerBookingQueriesShouldUseOwnerAndItemIndexes() {
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdOrderByStartDesc(1L, PAGE),
+                ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(1L,
+                MOMENT, MOMENT, PAGE), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(1L, MOMENT, PAGE),
+                ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(1L, MOMENT, PAGE),
+                ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(1L,
+                BookingStatus.REJECTED, PAGE), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdBeforeKeyset(1L, MOMENT, 5L,
+                Pagination.firstRows(21)), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findCurrentByItemOwnerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findPastByItemOwnerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findFutureByItemOwnerIdBeforeKeyset(1L, MOMENT, MOMENT, 5L,
+                Pagination.firstRows(21)), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemOwnerIdAndStatusBeforeKeyset(1L, BookingStatus.REJECTED,
+                MOMENT, 5L, Pagination.firstRows(21)), ITEMS_OWNER, ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findNextBoundaryByItemOwnerId(1L, MOMENT),
+                ITEMS_OWNER, ITEM_STATUS_START);
+    }
+
+    @Test
+    @DisplayName("Проверка планов запросов бронирований вещей")
+    void checkItemBookingQueriesShouldUseItemStatusIndex() {
+        assertPlanUses(() -> bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED),
+                ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findAllByItemIdInAndStatusOrderByStartAsc(List.of(1L, 2L),
+                BookingStatus.APPROVED), ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findItemIdsBookedBetween(List.of(1L, 2L), BookingStatus.APPROVED,
+                MOMENT, MOMENT), ITEM_STATUS_START);
+        assertPlanUses(() -> bookingRepository.findBookerIdsByItemId(1L), ITEM_STATUS_START);
+    }
+
+    @Test
+    @DisplayName("Проверка плана поиска свободных вещей через NOT EXISTS по индексу бронирований")
+    void checkFreeItemQueriesShouldProbeItemStatusIndexPerItem() {
+        String itemsPrimaryKey = indexOn("ITEMS", "ID");
+
+        String free = assertPlanUses(() -> itemRepository.findAllFreeBetween(BookingStatus.APPROVED, MOMENT,
+                MOMENT.plusDays(1), PAGE), itemsPrimaryKey, ITEM_STATUS_START);
+        String textFree = assertPlanUses(() -> itemRepository.findAllByTextFreeBetween("дрель",
+                BookingStatus.APPROVED, MOMENT, MOMENT.plusDays(1), PAGE), itemsPrimaryKey, ITEM_STATUS_START);
+
+        assertThat(List.of(free, textFree)).allSatisfy(plan -> assertThat(plan)
+                .contains("NOT EXISTS")
+                .contains(ITEM_STATUS_START + ": START_DATE < ?")
+                .contains("/* index sorted */"));
+    }
+
+    @Test
+    @DisplayName("Проверка плана поиска вещей по названию и описанию с сортировкой по первичному ключу")
+    void checkTextSearchQueryShouldReadItemsInPrimaryKeyOrder() {
+        String plan = assertPlanUses(() -> itemRepository.findAllByText("дрель", PAGE), indexOn("ITEMS", "ID"),
+                indexOn("USERS", "ID"));
+
+        assertThat(plan).contains("/* index sorted */");
+    }
+
+    @Test
+    @DisplayName("Проверка планов запросов вещей и комментариев")
+    void checkItemAndCommentQueriesShouldUseForeignKeyIndexes() {
+        assertPlanUses(() -> itemRepository.findAllByOwnerIdOrderByIdAsc(1L, PAGE), ITEMS_OWNER);
+        assertPlanUses(() -> itemRepository.findIdsByOwnerId(1L), ITEMS_OWNER);
+        assertPlanUses(() -> itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(1L, 5L,
+                Pagination.firstRows(21)), ITEMS_OWNER);
+        assertPlanUses(() -> itemRepository.findAllByRequestId(1L), ITEMS_REQUEST);
+        assertPlanUses(() -> itemRepository.findAllByRequestIdIn(List.of(1L, 2L)), ITEMS_REQUEST);
+        assertPlanUses(() -> commentRepository.findAllByItemId(1L), COMMENTS_ITEM);
+        assertPlanUses(() -> commentRepository.findAllByItemIdIn(List.of(1L, 2L)), COMMENTS_ITEM);
+        assertPlanUses(() -> commentRepository.findItemIdsByAuthorId(1L), COMMENTS_AUTHOR_ITEM);
+    }
+
+    @Test
+    @DisplayName("Проверка планов запросов на вещи и пользователей")
+    void checkRequestAndUserQueriesShouldUseCreatedIndexes() {
+        assertPlanUses(() -> requestRepository.findAllByUserIdOrderByCreatedDesc(1L, PAGE), REQUESTS_USER_CREATED);
+        assertPlanUses(() -> requestRepository.findAllByUserIdIsNotOrderByCreatedDesc(1L, PAGE), REQUESTS_CREATED_ID);
+        assertPlanUses(() -> requestRepository.findAllByUserIdIsNotBeforeKeyset(1L, MOMENT, 5L,
+                Pagination.firstRows(21)), REQUESTS_CREATED_ID);
+        assertPlanUses(() -> userRepository.findUserByEmail("test@test.ru"), indexOn("USERS", "EMAIL"));
+    }
+
+    private String assertPlanUses(Runnable repositoryCall, String... indexes) {
+        CapturedStatements.STATEMENTS.clear();
+        repositoryCall.run();
+
+        assertThat(CapturedStatements.STATEMENTS).hasSize(1);
+        String sql = CapturedStatements.STATEMENTS.get(0);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as(sql).doesNotContain("tableScan");
+        for (String index : indexes) {
+            assertThat(plan).as(sql).containsPattern("/\\* PUBLIC\\." + Pattern.quote(index) + "[: ]");
+        }
+        return plan;
+    }
+
+    private String indexOn(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT index_name FROM information_schema.index_columns " +
+                "WHERE table_schema = 'PUBLIC' AND table_name = ? AND column_name = ? AND ordinal_position = 1 " +
+                "ORDER BY index_name LIMIT 1", String.class, table, column);
+    }
+
+    public static class CapturedStatements implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.common.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = EntityCacheConfig.STATISTICS_PROPERTY + "=true")
+@Import(EntityCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class EntityCacheTest {
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Проверка загрузки вещи и её владельца из кеша второго уровня без запросов к БД")
+    void checkFindByIdShouldLoadItemAndOwnerFromSecondLevelCache() {
+        User owner = userRepository.save(TestData.createTestUser(1L));
+        Item item = itemRepository.save(new Item(null, "Дрель", "Простая дрель", true,
+                owner, null, null, null, null));
+        itemRepository.findById(item.getId());
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        User cachedOwner = transactionTemplate.execute(status -> itemRepository.findById(item.getId())
+                .map(Item::getOwner)
+                .map(cached -> new User(cached.getId(), cached.getName(), cached.getEmail()))
+                .orElseThrow());
+
+        assertThat(cachedOwner).isEqualTo(owner);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(EntityCacheConfig.ITEM_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics(EntityCacheConfig.USER_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Проверка кеширования результата поиска пользователя по email и его сброса после изменения")
+    void checkFindUserByEmailShouldUseQueryCacheUntilUsersTableChanges() {
+        User user = userRepository.save(TestData.createTestUser(1L));
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        userRepository.findUserByEmail(user.getEmail());
+        userRepository.findUserByEmail(user.getEmail());
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        user.setName("Новое имя");
+        userRepository.save(user);
+
+        assertThat(userRepository.findUserByEmail(user.getEmail())).get()
+                .extracting(User::getName)
+                .isEqualTo("Новое имя");
+        assertThat(statistics.getCacheRegionStatistics(
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME).getHitCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
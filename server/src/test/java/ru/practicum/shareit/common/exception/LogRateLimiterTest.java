@@ -0,0 +1,26 @@
+package ru.practicum.shareit.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogRateLimiterTest {
+    @Test
+    @DisplayName("Проверка пропуска сообщений сверх лимита и подсчёта пропущенных")
+    void checkAcquireShouldSuppressMessagesOverLimitAndReportThemInNextWindow() throws InterruptedException {
+        LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofMillis(50));
+
+        assertThat(limiter.acquire()).isZero();
+        assertThat(limiter.acquire()).isZero();
+        assertThat(limiter.acquire()).isEqualTo(LogRateLimiter.SUPPRESSED);
+        assertThat(limiter.acquire()).isEqualTo(LogRateLimiter.SUPPRESSED);
+
+        Thread.sleep(60);
+
+        assertThat(limiter.acquire()).isEqualTo(2);
+        assertThat(limiter.acquire()).isZero();
+    }
+}
@@ -9,20 +9,30 @@ import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.TestData;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.exception.ValidationException;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.feed.ItemFeedFormat;
+import ru.practicum.shareit.item.feed.ItemFeedImporter;
+import ru.practicum.shareit.item.search.SearchMode;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -31,10 +41,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(ItemController.class)
 class ItemControllerTest {
     private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    private static final Pageable DEFAULT_PAGE = Pagination.firstRows(Pagination.MAX_PAGE_SIZE);
 
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private ItemFeedImporter itemFeedImporter;
+
     @Spy
     private ItemMapper itemMapper = Mappers.getMapper(ItemMapper.class);
 
@@ -153,6 +167,34 @@ class ItemControllerTest {
         verify(itemService, times(1)).get(itemId, userId);
     }
 
+    @Test
+    @DisplayName("Проверка метода получения предметов по списку ID")
+    void checkGetAllByIdsShouldReturnFoundItems() throws Exception {
+        List<ItemDto> expectedList = Stream.of(
+                TestData.createTestItem(2L, true, TestData.createTestUser(2L)),
+                TestData.createTestItem(1L, true, TestData.createTestUser(1L))
+        ).map(itemMapper::transformItemToItemDto).collect(Collectors.toList());
+
+        when(itemService.getAll(List.of(2L, 1L))).thenReturn(expectedList);
+
+        mockMvc.perform(get("/items").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
+        verify(itemService, times(1)).getAll(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Проверка ограничения количества ID при получении предметов по списку")
+    void checkGetAllByIdsShouldReturnBadRequestIfTooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, Pagination.MAX_LOOKUP_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/items").param("ids", ids))
+                .andExpect(status().isBadRequest());
+        verify(itemService, never()).getAll(anyCollection());
+    }
+
     @Test
     @DisplayName("Проверка метода получения списка предметов по ID пользователя")
     void checkGetByUserIdShouldReturnItemDtoListByUserId() throws Exception {
@@ -164,12 +206,12 @@ class ItemControllerTest {
                 TestData.createTestItem(3L, true, user)
         ).map(itemMapper::transformItemToItemDto).collect(Collectors.toList());
 
-        when(itemService.getByUserId(userId, null)).thenReturn(userItems);
+        when(itemService.getByUserId(userId, DEFAULT_PAGE)).thenReturn(userItems);
 
         mockMvc.perform(get("/items").header(HEADER_USER_ID, userId))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(userItems)));
-        verify(itemService, times(1)).getByUserId(userId, null);
+        verify(itemService, times(1)).getByUserId(userId, DEFAULT_PAGE);
     }
 
     @Test
@@ -202,23 +244,55 @@ class ItemControllerTest {
                 TestData.createTestItem(3L, true, user)
         ).map(itemMapper::transformItemToItemDto).collect(Collectors.toList());
 
-        when(itemService.getBySearchText(anyString(), any())).thenReturn(searchedItems);
+        when(itemService.getBySearchText(anyString(), any(), any())).thenReturn(searchedItems);
 
         mockMvc.perform(get("/items/search").queryParam("text", "some text"))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(searchedItems)));
-        verify(itemService, times(1)).getBySearchText(anyString(), any());
+        verify(itemService, times(1)).getBySearchText(anyString(), any(), any());
     }
 
     @Test
     @DisplayName("Проверка метода поиска предметов по пустому тексту")
     void checkGetBySearchTextShouldReturnEmptyItemDtoListByEmptySearchText() throws Exception {
-        when(itemService.getBySearchText(anyString(), any())).thenReturn(Collections.emptyList());
+        when(itemService.getBySearchText(anyString(), any(), any())).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/items/search").queryParam("text", ""))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(Collections.emptyList())));
-        verify(itemService, times(1)).getBySearchText(anyString(), any());
+        verify(itemService, times(1)).getBySearchText(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка метода поиска свободных в заданный период предметов")
+    void checkGetAvailableShouldReturnItemDtoListOfFreeItems() throws Exception {
+        User user = TestData.createTestUser(1L);
+        List<ItemDto> freeItems = List.of(itemMapper.transformItemToItemDto(TestData.createTestItem(1L, true, user)));
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = LocalDateTime.of(2123, 1, 2, 9, 0);
+
+        when(itemService.getAvailable("дрель", start, end, DEFAULT_PAGE)).thenReturn(freeItems);
+
+        mockMvc.perform(get("/items/available")
+                        .queryParam("text", "дрель")
+                        .queryParam("start", "2123-01-01T09:00:00")
+                        .queryParam("end", "2123-01-02T09:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(freeItems)));
+        verify(itemService, times(1)).getAvailable("дрель", start, end, DEFAULT_PAGE);
+    }
+
+    @Test
+    @DisplayName("Проверка метода получения подсказок для названий предметов")
+    void checkGetSuggestionsShouldReturnItemNames() throws Exception {
+        List<String> suggestions = List.of("Дрель", "Дрель ударная");
+
+        when(itemService.getSuggestions("дре", 10)).thenReturn(suggestions);
+
+        mockMvc.perform(get("/items/suggest").queryParam("prefix", "дре").queryParam("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(suggestions)));
+        verify(itemService, times(1)).getSuggestions("дре", 10);
     }
 
     @Test
@@ -243,4 +317,57 @@ class ItemControllerTest {
         mockMvc.perform(delete(String.format("/items/%d", itemId))).andExpect(status().isNotFound());
         verify(itemService, times(1)).delete(itemId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Проверка получения предметов пользователя по курсору с некорректным размером страницы")
+    void checkGetByUserIdWithCursorShouldReturnBadRequestIfSizeIsNotPositive() throws Exception {
+        mockMvc.perform(get("/items").header(HEADER_USER_ID, 1L)
+                        .queryParam("cursor", "")
+                        .queryParam("size", "0"))
+                .andExpect(status().isBadRequest());
+        verify(itemService, never()).getByUserId(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Проверка метода поиска предметов по релевантности")
+    void checkGetBySearchTextShouldPassRelevanceMode() throws Exception {
+        when(itemService.getBySearchText("дрели", SearchMode.RELEVANCE, DEFAULT_PAGE)).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/items/search").queryParam("text", "дрели").queryParam("mode", "RELEVANCE"))
+                .andExpect(status().isOk());
+        verify(itemService, times(1)).getBySearchText("дрели", SearchMode.RELEVANCE, DEFAULT_PAGE);
+    }
+
+    @Test
+    @DisplayName("Проверка метода потокового импорта предметов из CSV")
+    void checkImportItemsShouldPassCsvFeedToImporter() throws Exception {
+        mockMvc.perform(post("/items/import").header(HEADER_USER_ID, 1L)
+                        .contentType(ItemFeedFormat.CSV_VALUE)
+                        .content("name,description,available\nДрель,Мощная,true\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ItemFeedFormat.NDJSON_VALUE));
+        verify(itemFeedImporter, times(1)).importItems(eq(1L), eq(ItemFeedFormat.CSV), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка метода потокового импорта предметов в неподдерживаемом формате")
+    void checkImportItemsShouldReturnUnsupportedMediaTypeForJson() throws Exception {
+        mockMvc.perform(post("/items/import").header(HEADER_USER_ID, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+        verify(itemFeedImporter, never()).importItems(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка ошибки валидации при импорте в нераспознанном формате")
+    void checkImportItemsShouldThrowValidationExceptionForUnknownFormat() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType(MediaType.APPLICATION_XML_VALUE);
+        ItemController controller = new ItemController(itemService, itemFeedImporter);
+
+        assertThatThrownBy(() -> controller.importItems(1L, request, new MockHttpServletResponse()))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(itemFeedImporter);
+    }
+}
@@ -8,6 +8,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.search.ItemSearchView;
 import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.request.RequestRepository;
 import ru.practicum.shareit.user.User;
@@ -35,6 +40,9 @@ class ItemRepositoryTest {
     @Autowired
     private RequestRepository requestRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
     @Autowired
     private TestEntityManager testEntityManager;
 
@@ -93,6 +101,47 @@ class ItemRepositoryTest {
         assertThat(itemRepository.findAllByText("tEsT", null)).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Проверка поиска вещей по тексту только среди доступных вещей")
+    void checkFindAllByTextShouldExcludeUnavailableItemsMatchedByName() {
+        User user = TestData.createTestUser(1L);
+        userRepository.save(user);
+
+        Item item1 = new Item(1L, "Test", "Description", false,
+                user, null, null, null, null);
+        Item item2 = new Item(2L, "Name", "TesTing description", false,
+                user, null, null, null, null);
+        Item item3 = new Item(3L, "Test", "Description", true,
+                user, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        assertThat(itemRepository.findAllByText("tEsT", null)).isEqualTo(List.of(item3));
+    }
+
+    @Test
+    @DisplayName("Проверка постраничной выгрузки данных вещей для поискового индекса")
+    void checkFindAllByIdGreaterThanShouldReturnSearchViewsAfterId() {
+        User user = TestData.createTestUser(1L);
+        userRepository.save(user);
+        Item item1 = new Item(1L, "Test", "Description", true,
+                user, null, null, null, null);
+        Item item2 = new Item(2L, "Name", "Other description", false,
+                user, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+
+        List<ItemSearchView> views = itemRepository.findAllByIdGreaterThanOrderByIdAsc(item1.getId(),
+                Pagination.firstRows(10));
+
+        assertThat(views).hasSize(1);
+        assertThat(views.get(0).getId()).isEqualTo(item2.getId());
+        assertThat(views.get(0).getName()).isEqualTo("Name");
+        assertThat(views.get(0).getDescription()).isEqualTo("Other description");
+        assertThat(views.get(0).getAvailable()).isFalse();
+    }
+
     @Test
     void checkFindAllByRequestIdShouldReturnAllItemsByRequestId() {
         User owner = TestData.createTestUser(1L);
@@ -122,4 +171,88 @@ class ItemRepositoryTest {
         assertThat(requesting.size()).isEqualTo(2);
         assertThat(requesting).isEqualTo(expectedList);
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkFindAllByRequestIdInShouldReturnAllItemsOfAllRequests() {
+        User owner = TestData.createTestUser(1L);
+        User requestor = TestData.createTestUser(2L);
+        owner.setEmail("testing@test.ru");
+        userRepository.save(owner);
+        userRepository.save(requestor);
+
+        Request request1 = requestRepository.save(TestData.createTestRequest(1L, LocalDateTime.now(), requestor));
+        Request request2 = requestRepository.save(TestData.createTestRequest(2L, LocalDateTime.now(), requestor));
+        Request request3 = requestRepository.save(TestData.createTestRequest(3L, LocalDateTime.now(), requestor));
+
+        Item item1 = new Item(1L, "Test", "Description", true,
+                owner, request1, null, null, null);
+        Item item2 = new Item(2L, "Name", "TesTing description", true,
+                owner, request2, null, null, null);
+        Item item3 = new Item(3L, "Name", "Description", true,
+                owner, request3, null, null, null);
+
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        List<Item> requesting = itemRepository.findAllByRequestIdIn(List.of(request1.getId(), request2.getId()));
+
+        assertThat(requesting).containsExactlyInAnyOrder(item1, item2);
+    }
+
+    @Test
+    @DisplayName("Проверка постраничного получения вещей собственника по курсору")
+    void checkFindAllByOwnerIdAndIdGreaterThanShouldReturnItemsAfterCursor() {
+        User user = TestData.createTestUser(1L);
+        userRepository.save(user);
+        Item item1 = new Item(1L, "Test", "Description", true,
+                user, null, null, null, null);
+        Item item2 = new Item(2L, "Name", "Description", true,
+                user, null, null, null, null);
+        Item item3 = new Item(3L, "Other", "Description", true,
+                user, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+
+        List<Item> page = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(user.getId(), item1.getId(),
+                Pagination.firstRows(1));
+
+        assertThat(page).isEqualTo(List.of(item2));
+    }
+
+    @Test
+    @DisplayName("Проверка поиска вещей, свободных в заданный период")
+    void checkFindAllFreeBetweenShouldExcludeItemsWithOverlappingApprovedBookings() {
+        User owner = TestData.createTestUser(1L);
+        userRepository.save(owner);
+        User booker = TestData.createTestUser(2L);
+        booker.setEmail("booker@test.ru");
+        userRepository.save(booker);
+
+        Item item1 = new Item(1L, "Дрель", "Простая дрель", true,
+                owner, null, null, null, null);
+        Item item2 = new Item(2L, "Дрель ударная", "Мощная", true,
+                owner, null, null, null, null);
+        Item item3 = new Item(3L, "Отвертка", "Для дрели не подходит", true,
+                owner, null, null, null, null);
+        Item item4 = new Item(4L, "Дрель старая", "Сломана", false,
+                owner, null, null, null, null);
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+        itemRepository.save(item3);
+        itemRepository.save(item4);
+
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = start.plusDays(2);
+        bookingRepository.save(new Booking(1L, start.plusDays(1), start.plusDays(3), item1, booker,
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(2L, start, end, item2, booker, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(3L, end, end.plusDays(1), item3, booker, BookingStatus.APPROVED));
+
+        assertThat(itemRepository.findAllFreeBetween(BookingStatus.APPROVED, start, end, null))
+                .isEqualTo(List.of(item2, item3));
+        assertThat(itemRepository.findAllByTextFreeBetween("дрел", BookingStatus.APPROVED, start, end,
+                Pagination.splitByPages(0, 1))).isEqualTo(List.of(item2));
+    }
+}
@@ -8,32 +8,51 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import ru.practicum.shareit.TestData;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingListCache;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingTimelineIndex;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.cache.NegativeCache;
+import ru.practicum.shareit.common.exception.BookingException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.comment.CommentMapper;
 import ru.practicum.shareit.item.comment.CommentRepository;
 import ru.practicum.shareit.item.comment.CommentService;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.SearchMode;
+import ru.practicum.shareit.item.view.ItemViewCache;
 import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.request.RequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +65,8 @@ class ItemServiceTest {
     private UserService userService;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private BookingTimelineIndex bookingTimelineIndex;
     @Spy
     private BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
     @Spy
@@ -56,6 +77,15 @@ class ItemServiceTest {
     private CommentService commentService;
     @Mock
     private RequestRepository requestRepository;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Spy
+    private ItemViewCache itemViewCache = new ItemViewCache(new ConcurrentMapCacheManager(CacheConfig.ITEM_VIEWS,
+            CacheConfig.ITEM_OWNER_BOOKINGS));
+    @Mock
+    private BookingListCache bookingListCache;
+    @Mock
+    private NegativeCache negativeCache;
 
     @InjectMocks
     private ItemServiceImpl itemService;
@@ -71,7 +101,11 @@ class ItemServiceTest {
 
         when(userService.get(userId)).thenReturn(user);
         when(requestRepository.findById(requestId)).thenReturn(Optional.of(request));
-        when(itemRepository.save(any())).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+        when(itemRepository.save(any())).thenAnswer(invocationOnMock -> {
+            Item saved = invocationOnMock.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
 
         ItemDto checkDto = itemService.create(userId, itemDto);
 
@@ -125,6 +159,23 @@ class ItemServiceTest {
         assertThat(checkDto.getAvailable()).isFalse();
     }
 
+    @Test
+    @DisplayName("Проверка сброса списков бронирований владельца и арендаторов при обновлении предмета")
+    void checkUpdateShouldEvictOwnerAndBookerBookingLists() {
+        long itemId = 1L;
+        long userId = 1L;
+        User user = TestData.createTestUser(userId);
+
+        when(userService.get(userId)).thenReturn(user);
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(TestData.createTestItem(itemId, true, user)));
+        when(bookingRepository.findBookerIdsByItemId(itemId)).thenReturn(List.of(2L, 3L));
+
+        itemService.update(itemId, userId, ItemDto.builder().name("Новое имя").build());
+
+        verify(bookingListCache).evictUsers(BookingListCache.Role.OWNER, List.of(userId));
+        verify(bookingListCache).evictUsers(BookingListCache.Role.BOOKER, List.of(2L, 3L));
+    }
+
     @Test
     @DisplayName("Проверка обновления описания предмета")
     void checkUpdateShouldUpdateItemDescription() {
@@ -250,6 +301,66 @@ class ItemServiceTest {
         assertThat(itemService.get(itemId, userId)).isEqualTo(itemMapper.transformItemToItemDto(item));
     }
 
+    @Test
+    @DisplayName("Проверка получения вещи другим пользователем из кеша без данных о бронированиях")
+    void checkGetShouldServeSharedViewFromCache() {
+        long itemId = 1;
+        User owner = TestData.createTestUser(1L);
+        Item item = TestData.createTestItem(itemId, true, owner);
+
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(commentService.findAllByItemId(itemId)).thenReturn(Collections.emptyList());
+
+        ItemDto first = itemService.get(itemId, 2L);
+        first.setName("Изменённое имя");
+        ItemDto second = itemService.get(itemId, 3L);
+
+        assertThat(second.getName()).isEqualTo(item.getName());
+        assertThat(second.getLastBooking()).isNull();
+        verify(itemRepository, times(1)).findById(itemId);
+        verify(bookingRepository, never()).findAllByItemIdAndStatusOrderByStartAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка получения вещей по списку ID одним запросом с бронированиями владельца")
+    void checkGetAllByIdsShouldLoadItemsInOneQuery() {
+        Item firstItem = TestData.createTestItem(1L, true, TestData.createTestUser(1L));
+        Item secondItem = TestData.createTestItem(2L, true, TestData.createTestUser(2L));
+
+        when(itemRepository.findAllById(anyCollection())).thenReturn(List.of(firstItem, secondItem));
+        when(commentService.findAllByItemIdIn(anyCollection())).thenReturn(Collections.emptyList());
+        when(bookingRepository.findAllByItemIdAndStatusOrderByStartAsc(anyLong(), eq(BookingStatus.APPROVED)))
+                .thenReturn(Collections.emptyList());
+
+        List<ItemDto> items = itemService.getAll(List.of(2L, 1L, 3L));
+
+        assertThat(items).extracting(ItemDto::getId).containsExactly(2L, 1L);
+        verify(negativeCache, times(1)).markMissing(NegativeCache.Type.ITEM, 3L);
+        verify(bookingRepository, times(1)).findAllByItemIdAndStatusOrderByStartAsc(1L, BookingStatus.APPROVED);
+        verify(bookingRepository, times(1)).findAllByItemIdAndStatusOrderByStartAsc(2L, BookingStatus.APPROVED);
+        assertThat(itemService.getAll(List.of(1L, 2L))).hasSize(2);
+        verify(itemRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Проверка сброса кешированного представления вещи при изменении")
+    void checkUpdateShouldEvictCachedItemView() {
+        long itemId = 1;
+        long userId = 1;
+        User owner = TestData.createTestUser(userId);
+        Item item = TestData.createTestItem(itemId, true, owner);
+
+        when(userService.get(userId)).thenReturn(owner);
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(commentService.findAllByItemId(itemId)).thenReturn(Collections.emptyList());
+
+        itemService.get(itemId, 2L);
+        itemService.update(itemId, userId, ItemDto.builder().name("Новое имя").build());
+
+        assertThat(itemService.get(itemId, 2L).getName()).isEqualTo("Новое имя");
+        verify(itemRepository, times(3)).findById(itemId);
+    }
+
     @Test
     @DisplayName("Проверка получения вещи по несуществующему ID")
     void checkGetShouldThrowObjectNotFoundExceptionIfNonexistentId() {
@@ -284,6 +395,38 @@ class ItemServiceTest {
         assertThat(itemService.getByUserId(userId, null)).isEqualTo(userItemDtoS);
     }
 
+    @Test
+    @DisplayName("Проверка загрузки бронирований и комментариев для всех предметов пользователя одним запросом")
+    void checkGetByUserIdShouldLoadBookingsAndCommentsInBatch() {
+        long userId = 1L;
+        User owner = TestData.createTestUser(userId);
+        User booker = TestData.createTestUser(2L);
+        Item item1 = TestData.createTestItem(1L, true, owner);
+        Item item2 = TestData.createTestItem(2L, true, owner);
+        LocalDateTime now = LocalDateTime.now();
+        Booking lastBooking = new Booking(1L, now.minusDays(2), now.minusDays(1), item1, booker,
+                BookingStatus.APPROVED);
+        Booking nextBooking = new Booking(2L, now.plusDays(1), now.plusDays(2), item1, booker,
+                BookingStatus.APPROVED);
+        Comment comment = new Comment(1L, "Комментарий", item2, booker, now);
+
+        when(itemRepository.findAllByOwnerIdOrderByIdAsc(userId, null)).thenReturn(List.of(item1, item2));
+        when(bookingRepository.findAllByItemIdInAndStatusOrderByStartAsc(List.of(1L, 2L), BookingStatus.APPROVED))
+                .thenReturn(List.of(lastBooking, nextBooking));
+        when(commentService.findAllByItemIdIn(List.of(1L, 2L))).thenReturn(List.of(comment));
+
+        List<ItemDto> userItems = itemService.getByUserId(userId, null);
+
+        assertThat(userItems.get(0).getLastBooking().getId()).isEqualTo(lastBooking.getId());
+        assertThat(userItems.get(0).getNextBooking().getId()).isEqualTo(nextBooking.getId());
+        assertThat(userItems.get(0).getComments()).isEmpty();
+        assertNull(userItems.get(1).getLastBooking());
+        assertNull(userItems.get(1).getNextBooking());
+        assertThat(userItems.get(1).getComments()).hasSize(1);
+        verify(bookingRepository, never()).findAllByItemIdAndStatusOrderByStartAsc(anyLong(), any());
+        verify(commentService, never()).findAllByItemId(anyLong());
+    }
+
     @Test
     @DisplayName("Проверка метода поиска предметов по тексту")
     void checkGetBySearchTextShouldReturnItemListByText() {
@@ -297,15 +440,121 @@ class ItemServiceTest {
                 .map(itemMapper::transformItemToItemDto)
                 .collect(Collectors.toList());
 
-        when(itemRepository.findAllByText(anyString(), any())).thenReturn(searchItems);
+        when(itemSearchIndex.isReady()).thenReturn(true);
+        when(itemSearchIndex.search("some text", SearchMode.PREFIX, null)).thenReturn(List.of(1L, 2L, 3L));
+        when(itemRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(searchItems);
+
+        assertThat(itemService.getBySearchText("some text", SearchMode.PREFIX, null)).isEqualTo(searchDto);
+        verify(itemRepository, never()).findAllByText(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка поиска предметов через базу данных до построения поискового индекса")
+    void checkGetBySearchTextShouldQueryDatabaseIfIndexIsNotReady() {
+        User user = TestData.createTestUser(1L);
+        List<Item> searchItems = List.of(TestData.createTestItem(1L, true, user));
+
+        when(itemSearchIndex.isReady()).thenReturn(false);
+        when(itemRepository.findAllByText("some text", null)).thenReturn(searchItems);
 
-        assertThat(itemService.getBySearchText("some text", null)).isEqualTo(searchDto);
+        assertThat(itemService.getBySearchText("some text", SearchMode.PREFIX, null)).hasSize(1);
+        verify(itemSearchIndex, never()).search(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка удаления из поискового индекса предметов, отсутствующих в базе данных")
+    void checkGetBySearchTextShouldRemoveMissingItemsFromIndex() {
+        User user = TestData.createTestUser(1L);
+        Item item = TestData.createTestItem(2L, true, user);
+
+        when(itemSearchIndex.isReady()).thenReturn(true);
+        when(itemSearchIndex.search("some text", SearchMode.PREFIX, null)).thenReturn(List.of(1L, 2L));
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(item));
+
+        List<ItemDto> found = itemService.getBySearchText("some text", SearchMode.PREFIX, null);
+
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getId()).isEqualTo(2L);
+        verify(itemSearchIndex, times(1)).remove(1L);
     }
 
     @Test
     @DisplayName("Проверка метода поиска предметов по пустому тексту")
     void checkGetBySearchTextShouldReturnEmptyListIfSearchTextIsEmpty() {
-        assertThat(itemService.getBySearchText("", null)).isEmpty();
+        assertThat(itemService.getBySearchText("", SearchMode.PREFIX, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка поиска свободных предметов по тексту через поисковый индекс")
+    void checkGetAvailableShouldFilterIndexedItemsByBookedIds() {
+        User user = TestData.createTestUser(1L);
+        Item item = TestData.createTestItem(4L, true, user);
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = start.plusDays(1);
+
+        when(itemSearchIndex.isReady()).thenReturn(true);
+        when(itemSearchIndex.search("дрель", SearchMode.PREFIX, null)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(bookingRepository.findItemIdsBookedBetween(List.of(1L, 2L, 3L, 4L, 5L), BookingStatus.APPROVED, start,
+                end)).thenReturn(List.of(2L));
+        when(itemRepository.findAllById(List.of(4L, 5L))).thenReturn(List.of(item));
+
+        List<ItemDto> found = itemService.getAvailable("дрель", start, end, Pagination.splitByPages(2, 2));
+
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getId()).isEqualTo(item.getId());
+        verify(itemSearchIndex, times(1)).remove(5L);
+        verify(itemRepository, never()).findAllByTextFreeBetween(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка поиска свободных предметов без текста запроса")
+    void checkGetAvailableShouldQueryDatabaseIfTextIsBlank() {
+        User user = TestData.createTestUser(1L);
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = start.plusDays(1);
+
+        when(itemRepository.findAllFreeBetween(BookingStatus.APPROVED, start, end, null))
+                .thenReturn(List.of(TestData.createTestItem(1L, true, user)));
+
+        assertThat(itemService.getAvailable(null, start, end, null)).hasSize(1);
+        verify(itemSearchIndex, never()).search(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Проверка поиска свободных предметов через базу данных до построения поискового индекса")
+    void checkGetAvailableShouldQueryDatabaseIfIndexIsNotReady() {
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+        LocalDateTime end = start.plusDays(1);
+
+        when(itemSearchIndex.isReady()).thenReturn(false);
+        when(itemRepository.findAllByTextFreeBetween("дрель", BookingStatus.APPROVED, start, end, null))
+                .thenReturn(Collections.emptyList());
+
+        assertThat(itemService.getAvailable("дрель", start, end, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка поиска свободных предметов при некорректном периоде")
+    void checkGetAvailableShouldThrowBookingExceptionIfEndIsNotAfterStart() {
+        LocalDateTime start = LocalDateTime.of(2123, 1, 1, 9, 0);
+
+        assertThatThrownBy(() -> itemService.getAvailable("дрель", start, start, null))
+                .isInstanceOf(BookingException.class);
+    }
+
+    @Test
+    @DisplayName("Проверка получения подсказок для названий предметов из поискового индекса")
+    void checkGetSuggestionsShouldReturnSuggestionsFromIndex() {
+        when(itemSearchIndex.suggest("дре", 10)).thenReturn(List.of("Дрель", "Дрель ударная"));
+
+        assertThat(itemService.getSuggestions("дре", 10)).isEqualTo(List.of("Дрель", "Дрель ударная"));
+    }
+
+    @Test
+    @DisplayName("Проверка получения подсказок по пустому префиксу")
+    void checkGetSuggestionsShouldReturnEmptyListIfPrefixIsBlank() {
+        assertThat(itemService.getSuggestions(" ", 10)).isEmpty();
+        verify(itemSearchIndex, never()).suggest(anyString(), anyInt());
     }
 
     @Test
@@ -320,6 +569,7 @@ class ItemServiceTest {
         itemService.delete(itemId);
 
         verify(itemRepository, times(1)).deleteById(itemId);
+        verify(bookingTimelineIndex, times(1)).remove(itemId);
     }
 
     @Test
@@ -330,4 +580,54 @@ class ItemServiceTest {
 
         assertThatThrownBy(() -> itemService.delete(id)).isInstanceOf(ObjectNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Проверка получения страницы предметов пользователя по курсору")
+    void checkGetByUserIdWithCursorShouldContinueAfterLastReturnedItem() {
+        long userId = 1L;
+        User user = TestData.createTestUser(userId);
+        Item item3 = TestData.createTestItem(3L, true, user);
+        Item item4 = TestData.createTestItem(4L, true, user);
+
+        when(itemRepository.findAllByOwnerIdAndIdGreaterThanOrderByIdAsc(eq(userId), eq(2L), any()))
+                .thenReturn(List.of(item3, item4));
+        when(bookingRepository.findAllByItemIdInAndStatusOrderByStartAsc(List.of(3L), BookingStatus.APPROVED))
+                .thenReturn(Collections.emptyList());
+        when(commentService.findAllByItemIdIn(List.of(3L))).thenReturn(Collections.emptyList());
+
+        CursorPage<ItemDto> page = itemService.getByUserId(userId, Cursor.encode(2L), 1);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(3L);
+        assertThat(page.getNextCursor()).isEqualTo(Cursor.encode(3L));
+    }
+
+    @Test
+    @DisplayName("Проверка пакетного создания предметов с ID несуществующего запроса")
+    void checkCreateAllShouldRejectItemsWithNonexistentRequestAndSaveOthersAtOnce() {
+        long userId = 1L;
+        User user = TestData.createTestUser(userId);
+        Request request = TestData.createTestRequest(1L, LocalDateTime.now(), user);
+        List<ItemDto> itemDtos = List.of(TestData.createTestItemDto(true, null),
+                TestData.createTestItemDto(true, 2L),
+                TestData.createTestItemDto(false, request.getId()));
+        AtomicLong ids = new AtomicLong(1L);
+
+        when(userService.get(userId)).thenReturn(user);
+        when(requestRepository.findAllById(anyCollection())).thenReturn(List.of(request));
+        when(itemRepository.saveAll(anyCollection())).thenAnswer(invocationOnMock -> {
+            Collection<Item> items = invocationOnMock.getArgument(0);
+            items.forEach(item -> item.setId(ids.getAndIncrement()));
+            return new ArrayList<>(items);
+        });
+
+        List<BatchResult<ItemDto>> results = itemService.createAll(userId, itemDtos);
+
+        assertThat(results).extracting(BatchResult::getStatus).containsExactly(201, 404, 201);
+        assertThat(results.get(0).getBody().getOwner()).isEqualTo(user);
+        assertThat(results.get(2).getBody().getRequestId()).isEqualTo(request.getId());
+        assertThat(results.get(1).getError()).isEqualTo("404 - Запрос с ID: 2 не найден!");
+        verify(itemRepository, times(1)).saveAll(anyCollection());
+        verify(itemSearchIndex, times(2)).index(any(Item.class));
+    }
+}
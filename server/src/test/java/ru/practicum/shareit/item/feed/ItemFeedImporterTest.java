@@ -0,0 +1,132 @@
+package ru.practicum.shareit.item.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemFeedImporterTest {
+    private static final long USER_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private ItemService itemService;
+    @Mock
+    private UserService userService;
+
+    private ItemFeedImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new ItemFeedImporter(itemService, userService, objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("Проверка импорта предметов из NDJSON частями фиксированного размера")
+    void checkImportItemsShouldSaveNdjsonFeedInChunks() throws IOException {
+        mockCreateAll();
+        String feed = "{\"name\":\"Дрель\",\"description\":\"Мощная\",\"available\":true}\n" +
+                "\n" +
+                "{\"name\":\"Пила\",\"description\":\"Острая\",\"available\":false}\n" +
+                "{\"name\":\"Стол\",\"description\":\"Деревянный\",\"available\":true}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ItemFeedProgress progress = importer.importItems(USER_ID, ItemFeedFormat.NDJSON, input(feed), output);
+
+        assertThat(progress.getProcessed()).isEqualTo(3);
+        assertThat(progress.getCreated()).isEqualTo(3);
+        assertThat(progress.getFailed()).isZero();
+        verify(itemService, times(2)).createAll(eq(USER_ID), anyList());
+        assertThat(lines(output)).hasSize(3)
+                .last()
+                .satisfies(line -> assertThat(line.get("completed").asBoolean()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Проверка импорта предметов из CSV с ошибками в отдельных строках")
+    void checkImportItemsShouldReportCsvRowErrorsWithLineNumbers() throws IOException {
+        mockCreateAll();
+        String feed = "name,description,available,requestId\n" +
+                "Дрель,\"Мощная, с зарядкой\",true,\n" +
+                ",Без названия,true,\n" +
+                "Пила,Острая,возможно,\n" +
+                "Стол,Деревянный,false,\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ItemFeedProgress progress = importer.importItems(USER_ID, ItemFeedFormat.CSV, input(feed), output);
+
+        assertThat(progress.getProcessed()).isEqualTo(4);
+        assertThat(progress.getCreated()).isEqualTo(2);
+        assertThat(progress.getFailed()).isEqualTo(2);
+        List<JsonNode> errors = lines(output).stream()
+                .filter(line -> line.has("error"))
+                .collect(Collectors.toList());
+        assertThat(errors).extracting(line -> line.get("line").asLong()).containsExactly(3L, 4L);
+        assertThat(errors.get(0).get("error").asText()).isEqualTo("400 - Необходимо название вещи!");
+    }
+
+    @Test
+    @DisplayName("Проверка передачи ошибок сохранения предметов в поток результатов импорта")
+    void checkImportItemsShouldReportRejectedItems() throws IOException {
+        when(itemService.createAll(anyLong(), anyList())).thenReturn(List.of(BatchResult.created(0, null),
+                BatchResult.failed(1, new ObjectNotFoundException("Запрос", 7L))));
+        String feed = "{\"name\":\"Дрель\",\"description\":\"Мощная\",\"available\":true}\n" +
+                "{\"name\":\"Пила\",\"description\":\"Острая\",\"available\":true,\"requestId\":7}\n" +
+                "{\"name\":\"Стол\",\"description\":\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ItemFeedProgress progress = importer.importItems(USER_ID, ItemFeedFormat.NDJSON, input(feed), output);
+
+        assertThat(progress.getCreated()).isEqualTo(1);
+        assertThat(progress.getFailed()).isEqualTo(2);
+        assertThat(lines(output)).filteredOn(line -> line.has("error"))
+                .extracting(line -> line.get("line").asLong() + " " + line.get("status").asInt())
+                .containsExactlyInAnyOrder("2 404", "3 400");
+    }
+
+    private void mockCreateAll() {
+        when(itemService.createAll(anyLong(), anyList())).thenAnswer(invocationOnMock -> {
+            List<ItemDto> itemDtos = invocationOnMock.getArgument(1);
+            return IntStream.range(0, itemDtos.size())
+                    .mapToObj(index -> BatchResult.created(index, itemDtos.get(index)))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    private ByteArrayInputStream input(String feed) {
+        return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream output) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EditDistanceTest {
+    @Test
+    @DisplayName("Проверка вычисления расстояния редактирования в пределах порога")
+    void checkBoundedShouldReturnDistanceWithinLimit() {
+        assertThat(EditDistance.bounded("дрель", "дрель", 2)).isEqualTo(0);
+        assertThat(EditDistance.bounded("дрель", "дрел", 2)).isEqualTo(1);
+        assertThat(EditDistance.bounded("отвретка", "отвертка", 2)).isEqualTo(2);
+        assertThat(EditDistance.bounded("клей", "клен", 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Проверка ограничения расстояния редактирования порогом")
+    void checkBoundedShouldStopAboveLimit() {
+        assertThat(EditDistance.bounded("дрель", "стол", 1)).isEqualTo(2);
+        assertThat(EditDistance.bounded("аккумулятор", "дрель", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Проверка совпадения ленточного расчёта с полным расчётом расстояния редактирования")
+    void checkBoundedShouldMatchFullDistanceInsideBand() {
+        Random random = new Random(42);
+        for (int attempt = 0; attempt < 1_000; attempt++) {
+            String source = randomWord(random);
+            String target = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertThat(EditDistance.bounded(source, target, maxDistance))
+                        .as("%s -> %s, k = %d", source, target, maxDistance)
+                        .isEqualTo(Math.min(fullDistance(source, target), maxDistance + 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Проверка допустимого расстояния редактирования в зависимости от длины слова")
+    void checkAllowedDistanceShouldGrowWithTokenLength() {
+        assertThat(EditDistance.allowedDistance(3)).isEqualTo(0);
+        assertThat(EditDistance.allowedDistance(5)).isEqualTo(1);
+        assertThat(EditDistance.allowedDistance(8)).isEqualTo(2);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = random.nextInt(9);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('а' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    private static int fullDistance(String source, String target) {
+        int[][] distance = new int[source.length() + 1][target.length() + 1];
+        for (int i = 0; i <= source.length(); i++) {
+            for (int j = 0; j <= target.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distance[i][j] = i + j;
+                } else {
+                    int substitution = distance[i - 1][j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                    distance[i][j] = Math.min(substitution, Math.min(distance[i - 1][j], distance[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distance[source.length()][target.length()];
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.shareit.item.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.Item;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+    private static final String[] ADJECTIVES = {"аккумуляторная", "ударная", "садовая", "кухонный", "старый",
+            "новая", "складной", "электрическая", "ручная", "большой", "детский", "туристический"};
+    private static final String[] NOUNS = {"дрель", "отвертка", "пила", "стол", "палатка", "лестница", "велосипед",
+            "перфоратор", "шуруповерт", "стремянка", "тележка", "газонокосилка", "рюкзак", "фонарь", "мангал"};
+    private static final String[] DETAILS = {"почти новая", "в хорошем состоянии", "с зарядкой", "без упаковки",
+            "для дачи", "для ремонта", "с чехлом", "мощная", "легкая", "компактная"};
+    private static final String LIKE_QUERY = "SELECT id, name, description, available FROM items " +
+            "WHERE (UPPER(name) LIKE UPPER(CONCAT('%', ?, '%')) " +
+            "OR UPPER(description) LIKE UPPER(CONCAT('%', ?, '%'))) " +
+            "AND available = TRUE ORDER BY id LIMIT 20";
+
+    @Param({"100000"})
+    private int itemCount;
+
+    @Param({"перфоратор", "99991"})
+    private String query;
+
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private ItemSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likeStatement;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ItemSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new ItemSearchIndex(null);
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark", "test", "test");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                    "description VARCHAR(500) NOT NULL, available BOOLEAN NOT NULL)");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items VALUES (?, ?, ?, ?)")) {
+            for (long id = 1; id <= itemCount; id++) {
+                Item item = createItem(id, random);
+                index.index(item);
+
+                insert.setLong(1, id);
+                insert.setString(2, item.getName());
+                insert.setString(3, item.getDescription());
+                insert.setBoolean(4, item.getAvailable());
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        likeStatement = connection.prepareStatement(LIKE_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> likeQuery() throws SQLException {
+        likeStatement.setString(1, query);
+        likeStatement.setString(2, query);
+
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = likeStatement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> prefixIndex() {
+        return index.search(query, SearchMode.PREFIX, firstPage);
+    }
+
+    @Benchmark
+    public List<Long> fuzzyIndexExactSpelling() {
+        return index.search(query, SearchMode.FUZZY, firstPage);
+    }
+
+    @Benchmark
+    public List<Long> fuzzyIndexWithTypo() {
+        return index.search("перфаратор", SearchMode.FUZZY, firstPage);
+    }
+
+    private Item createItem(long id, Random random) {
+        String noun = NOUNS[random.nextInt(NOUNS.length)];
+        return Item.builder()
+                .id(id)
+                .name(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + noun)
+                .description(noun + " " + DETAILS[random.nextInt(DETAILS.length)] + " " + id)
+                .available(random.nextInt(10) > 0)
+                .build();
+    }
+}
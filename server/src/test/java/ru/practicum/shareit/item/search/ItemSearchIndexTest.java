@@ -0,0 +1,209 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private ItemSearchIndex itemSearchIndex;
+
+    private final User owner = TestData.createTestUser(1L);
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex.index(createItem(1L, "Дрель", "Простая дрель", true));
+        itemSearchIndex.index(createItem(2L, "Аккумуляторная дрель", "Аккумуляторная дрель + аккумулятор", true));
+        itemSearchIndex.index(createItem(3L, "Отвертка", "Аккумуляторная отвертка", true));
+        itemSearchIndex.index(createItem(4L, "Клей Момент", "Тюбик суперклея", false));
+    }
+
+    @Test
+    @DisplayName("Проверка поиска по префиксу слова без учёта регистра")
+    void checkSearchShouldFindItemsByTokenPrefixIgnoringCase() {
+        assertThat(itemSearchIndex.search("дРелЬ", SearchMode.PREFIX, null)).isEqualTo(List.of(1L, 2L));
+        assertThat(itemSearchIndex.search("оТверТ", SearchMode.PREFIX, null)).isEqualTo(List.of(3L));
+        assertThat(itemSearchIndex.search("аккУМУляторная", SearchMode.PREFIX, null)).isEqualTo(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Проверка поиска по нескольким словам")
+    void checkSearchShouldRequireAllQueryTokens() {
+        assertThat(itemSearchIndex.search("аккумуляторная дрель", SearchMode.PREFIX, null)).isEqualTo(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Проверка исключения недоступных вещей из результатов поиска")
+    void checkSearchShouldExcludeUnavailableItems() {
+        assertThat(itemSearchIndex.search("клей", SearchMode.PREFIX, null)).isEmpty();
+
+        itemSearchIndex.index(createItem(4L, "Клей Момент", "Тюбик суперклея", true));
+
+        assertThat(itemSearchIndex.search("клей", SearchMode.PREFIX, null)).isEqualTo(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("Проверка обновления и удаления вещи в поисковом индексе")
+    void checkIndexAndRemoveShouldReplaceItemTerms() {
+        itemSearchIndex.index(createItem(1L, "Перфоратор", "Мощный перфоратор", true));
+
+        assertThat(itemSearchIndex.search("дрель", SearchMode.PREFIX, null)).isEqualTo(List.of(2L));
+        assertThat(itemSearchIndex.search("перфоратор", SearchMode.PREFIX, null)).isEqualTo(List.of(1L));
+
+        itemSearchIndex.remove(1L);
+
+        assertThat(itemSearchIndex.search("перфоратор", SearchMode.PREFIX, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка постраничного вывода результатов поиска")
+    void checkSearchShouldApplyPagination() {
+        assertThat(itemSearchIndex.search("аккумуляторная", SearchMode.PREFIX, Pagination.splitByPages(1, 1)))
+                .isEqualTo(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Проверка построения индекса по данным базы без перезаписи уже обновлённых вещей")
+    void checkBuildShouldLoadItemsAndKeepNewerEntries() {
+        ItemSearchView staleView = createView(3L, "Старая отвертка", true);
+        ItemSearchView newView = createView(5L, "Стол", true);
+        when(itemRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any()))
+                .thenReturn(List.of(staleView, newView));
+
+        itemSearchIndex.build();
+
+        assertThat(itemSearchIndex.isReady()).isTrue();
+        assertThat(itemSearchIndex.search("стол", SearchMode.PREFIX, null)).isEqualTo(List.of(5L));
+        assertThat(itemSearchIndex.search("старая", SearchMode.PREFIX, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка поиска по релевантности с учётом словоформ")
+    void checkRelevanceSearchShouldMatchInflectedForms() {
+        itemSearchIndex.index(createItem(5L, "Набор сверл", "Сверла для дрели по бетону", true));
+
+        assertThat(itemSearchIndex.search("дрели", SearchMode.RELEVANCE, null))
+                .containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(itemSearchIndex.search("отвертки", SearchMode.RELEVANCE, null)).isEqualTo(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Проверка повышения в выдаче вещей с совпадением в названии")
+    void checkRelevanceSearchShouldRankNameMatchesFirst() {
+        itemSearchIndex.index(createItem(5L, "Набор сверл", "Сверла для дрели по бетону", true));
+
+        List<Long> found = itemSearchIndex.search("дрель", SearchMode.RELEVANCE, null);
+
+        assertThat(found).hasSize(3);
+        assertThat(found.get(2)).isEqualTo(5L);
+        assertThat(found.get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Проверка исключения недоступных вещей из поиска по релевантности")
+    void checkRelevanceSearchShouldExcludeUnavailableItems() {
+        assertThat(itemSearchIndex.search("клея", SearchMode.RELEVANCE, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка нечёткого поиска с опечатками")
+    void checkFuzzySearchShouldTolerateTypos() {
+        assertThat(itemSearchIndex.search("отвретка", SearchMode.FUZZY, null)).isEqualTo(List.of(3L));
+        assertThat(itemSearchIndex.search("дрэль", SearchMode.FUZZY, null)).isEqualTo(List.of(1L, 2L));
+        assertThat(itemSearchIndex.search("акумуляторная дрел", SearchMode.FUZZY, null)).isEqualTo(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Проверка ранжирования точных совпадений выше совпадений с опечатками при нечётком поиске")
+    void checkFuzzySearchShouldRankCloserMatchesFirst() {
+        itemSearchIndex.index(createItem(5L, "Дрела", "Опечатка в названии", true));
+
+        assertThat(itemSearchIndex.search("дрель", SearchMode.FUZZY, null)).isEqualTo(List.of(1L, 2L, 5L));
+    }
+
+    @Test
+    @DisplayName("Проверка отсутствия нечётких совпадений для коротких и удалённых слов")
+    void checkFuzzySearchShouldNotMatchShortTokensApproximately() {
+        itemSearchIndex.remove(3L);
+
+        assertThat(itemSearchIndex.search("отвретка", SearchMode.FUZZY, null)).isEmpty();
+        assertThat(itemSearchIndex.search("дря", SearchMode.FUZZY, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка подсказок по началу любого слова в названии доступных вещей")
+    void checkSuggestShouldMatchWordPrefixesOfAvailableNames() {
+        assertThat(itemSearchIndex.suggest("ДР", 10)).isEqualTo(List.of("Аккумуляторная дрель", "Дрель"));
+        assertThat(itemSearchIndex.suggest("аккумуляторная д", 10)).isEqualTo(List.of("Аккумуляторная дрель"));
+        assertThat(itemSearchIndex.suggest("клей", 10)).isEmpty();
+        assertThat(itemSearchIndex.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка обновления подсказок при переименовании и изменении доступности вещи")
+    void checkSuggestShouldFollowRenamesAndAvailability() {
+        itemSearchIndex.index(createItem(1L, "Перфоратор", "Мощный перфоратор", true));
+        itemSearchIndex.index(createItem(3L, "Отвертка", "Аккумуляторная отвертка", false));
+        itemSearchIndex.index(createItem(4L, "Клей Момент", "Тюбик суперклея", true));
+
+        assertThat(itemSearchIndex.suggest("дрель", 10)).isEqualTo(List.of("Аккумуляторная дрель"));
+        assertThat(itemSearchIndex.suggest("перф", 10)).isEqualTo(List.of("Перфоратор"));
+        assertThat(itemSearchIndex.suggest("отв", 10)).isEmpty();
+        assertThat(itemSearchIndex.suggest("мом", 10)).isEqualTo(List.of("Клей Момент"));
+
+        itemSearchIndex.remove(1L);
+
+        assertThat(itemSearchIndex.suggest("перф", 10)).isEmpty();
+    }
+
+    private Item createItem(long id, String name, String description, boolean available) {
+        Item item = TestData.createTestItem(id, available, owner);
+        item.setName(name);
+        item.setDescription(description);
+        return item;
+    }
+
+    private ItemSearchView createView(long id, String name, boolean available) {
+        return new ItemSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return name;
+            }
+
+            @Override
+            public Boolean getAvailable() {
+                return available;
+            }
+        };
+    }
+}
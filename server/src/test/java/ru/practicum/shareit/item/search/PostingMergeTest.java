@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingMergeTest {
+    @Test
+    @DisplayName("Проверка слияния списков вхождений по возрастанию ID без повторов")
+    void checkIntersectShouldMergePostingsInIdOrder() {
+        PostingMerge merge = new PostingMerge(List.of(new long[]{1, 4, 7}, new long[]{2, 4, 9}, new long[]{}));
+
+        assertThat(PostingMerge.intersect(List.of(merge))).containsExactly(1L, 2L, 4L, 7L, 9L);
+    }
+
+    @Test
+    @DisplayName("Проверка пересечения слияний по нескольким словам запроса")
+    void checkIntersectShouldKeepIdsPresentInEveryMerge() {
+        PostingMerge first = new PostingMerge(List.of(new long[]{1, 3, 5, 8}, new long[]{2, 6}));
+        PostingMerge second = new PostingMerge(List.of(new long[]{2, 3, 8, 10}));
+        PostingMerge empty = new PostingMerge(List.of());
+
+        assertThat(PostingMerge.intersect(List.of(first, second))).containsExactly(2L, 3L, 8L);
+        assertThat(PostingMerge.intersect(List.of(new PostingMerge(List.of(new long[]{1})), empty))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка остановки слияния после получения нужного количества результатов")
+    void checkIntersectShouldStopAfterRequestedResults() {
+        PostingMerge merge = new PostingMerge(List.of(LongStream.rangeClosed(1, 1_000).toArray(),
+                LongStream.rangeClosed(500, 1_500).toArray()));
+
+        List<Long> page = PostingMerge.intersect(List.of(merge)).skip(2).limit(3).collect(Collectors.toList());
+
+        assertThat(page).containsExactly(3L, 4L, 5L);
+        assertThat(merge.current()).isLessThanOrEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Проверка добавления и удаления ID с сохранением порядка")
+    void checkWithIdAndWithoutIdShouldKeepIdsSorted() {
+        long[] ids = PostingMerge.withId(PostingMerge.withId(new long[]{2, 8}, 5), 1);
+
+        assertThat(ids).containsExactly(1, 2, 5, 8);
+        assertThat(PostingMerge.withId(ids, 5)).isSameAs(ids);
+        assertThat(PostingMerge.withoutId(ids, 2)).containsExactly(1, 5, 8);
+        assertThat(PostingMerge.withoutId(ids, 3)).isSameAs(ids);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StemmerTest {
+    @Test
+    @DisplayName("Проверка приведения русских словоформ к общей основе")
+    void checkStemShouldReduceRussianWordFormsToSameStem() {
+        assertThat(Stemmer.stem("дрель")).isEqualTo(Stemmer.stem("дрели"));
+        assertThat(Stemmer.stem("дрель")).isEqualTo(Stemmer.stem("дрелями"));
+        assertThat(Stemmer.stem("отвертка")).isEqualTo(Stemmer.stem("отвертки"));
+        assertThat(Stemmer.stem("аккумуляторная")).isEqualTo(Stemmer.stem("аккумуляторные"));
+        assertThat(Stemmer.stem("щётка")).isEqualTo(Stemmer.stem("щетку"));
+        assertThat(Stemmer.stem("дрель")).isEqualTo("дрел");
+    }
+
+    @Test
+    @DisplayName("Проверка приведения английских словоформ к общей основе")
+    void checkStemShouldReduceEnglishWordFormsToSameStem() {
+        assertThat(Stemmer.stem("drills")).isEqualTo("drill");
+        assertThat(Stemmer.stem("drilling")).isEqualTo("drill");
+        assertThat(Stemmer.stem("batteries")).isEqualTo("battery");
+        assertThat(Stemmer.stem("boxes")).isEqualTo("box");
+        assertThat(Stemmer.stem("created")).isEqualTo(Stemmer.stem("creates"));
+    }
+
+    @Test
+    @DisplayName("Проверка неизменности слов на других алфавитах и чисел")
+    void checkStemShouldKeepOtherScriptsUnchanged() {
+        assertThat(Stemmer.stem("2000")).isEqualTo("2000");
+        assertThat(Stemmer.stem("ab")).isEqualTo("ab");
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+    private final SuggestionTrie trie = new SuggestionTrie(3);
+
+    @Test
+    @DisplayName("Проверка подсказок по префиксу внутри сжатого узла")
+    void checkSuggestShouldMatchPrefixInsideCompressedNode() {
+        trie.add("дрель", "Дрель");
+        trie.add("дрезина", "Дрезина");
+        trie.add("доска", "Доска");
+
+        assertThat(trie.suggest("д", 10)).isEqualTo(List.of("Доска", "Дрезина", "Дрель"));
+        assertThat(trie.suggest("дре", 10)).isEqualTo(List.of("Дрезина", "Дрель"));
+        assertThat(trie.suggest("дрел", 10)).isEqualTo(List.of("Дрель"));
+        assertThat(trie.suggest("дрелька", 10)).isEmpty();
+        assertThat(trie.suggest("пила", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка ограничения подсказок самыми частыми названиями")
+    void checkSuggestShouldKeepMostFrequentNames() {
+        trie.add("пила", "Пила");
+        trie.add("пила", "Пила");
+        trie.add("пила ручная", "Пила ручная");
+        trie.add("пилка", "Пилка");
+        trie.add("пилон", "Пилон");
+        trie.add("пилон", "Пилон");
+
+        assertThat(trie.suggest("пил", 10)).isEqualTo(List.of("Пила", "Пилон", "Пила ручная"));
+        assertThat(trie.suggest("пил", 1)).isEqualTo(List.of("Пила"));
+    }
+
+    @Test
+    @DisplayName("Проверка удаления названий с пересчётом подсказок")
+    void checkRemoveShouldUpdateSuggestions() {
+        trie.add("пила", "Пила");
+        trie.add("пила ручная", "Пила ручная");
+        trie.add("пилка", "Пилка");
+        trie.add("пилон", "Пилон");
+
+        trie.remove("пила", "Пила");
+        trie.remove("пилон", "Пилон");
+        trie.remove("стол", "Стол");
+
+        assertThat(trie.suggest("пил", 10)).isEqualTo(List.of("Пила ручная", "Пилка"));
+        assertThat(trie.suggest("пила", 10)).isEqualTo(List.of("Пила ручная"));
+
+        trie.remove("пила ручная", "Пила ручная");
+        trie.remove("пилка", "Пилка");
+
+        assertThat(trie.suggest("п", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import ru.practicum.shareit.common.cache.CacheConfig;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemViewCacheTest {
+    private final ItemViewCache itemViewCache = new ItemViewCache(new ConcurrentMapCacheManager(
+            CacheConfig.ITEM_VIEWS, CacheConfig.ITEM_OWNER_BOOKINGS));
+
+    @Test
+    @DisplayName("Проверка повторного использования данных о бронированиях до начала следующего бронирования")
+    void checkGetOwnerBookingsShouldReuseBookingsUntilNextBookingStarts() {
+        AtomicInteger loads = new AtomicInteger();
+
+        itemViewCache.getOwnerBookings(1L, () -> {
+            loads.incrementAndGet();
+            return new OwnerBookings(null, null, LocalDateTime.now().plusDays(1));
+        });
+        itemViewCache.getOwnerBookings(1L, () -> {
+            loads.incrementAndGet();
+            return new OwnerBookings(null, null, null);
+        });
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Проверка перезагрузки данных о бронированиях после начала следующего бронирования")
+    void checkGetOwnerBookingsShouldReloadAfterNextBookingStarted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        itemViewCache.getOwnerBookings(1L, () -> {
+            loads.incrementAndGet();
+            return new OwnerBookings(null, null, LocalDateTime.now().minusSeconds(1));
+        });
+        itemViewCache.getOwnerBookings(1L, () -> {
+            loads.incrementAndGet();
+            return new OwnerBookings(null, null, null);
+        });
+        itemViewCache.getOwnerBookings(1L, () -> {
+            loads.incrementAndGet();
+            return new OwnerBookings(null, null, null);
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.TestData;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 import java.util.List;
@@ -19,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RequestController.class)
@@ -63,12 +66,12 @@ public class RequestControllerTest {
                 TestData.createTestRequestDto(2L),
                 TestData.createTestRequestDto(3L));
 
-        when(requestService.getOwnRequests(userId)).thenReturn(expectedList);
+        when(requestService.getOwnRequests(userId, Pagination.splitByPages(null, null))).thenReturn(expectedList);
 
         mockMvc.perform(get("/requests").header(HEADER_USER_ID, userId))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
-        verify(requestService, times(1)).getOwnRequests(userId);
+        verify(requestService, times(1)).getOwnRequests(userId, Pagination.splitByPages(null, null));
     }
 
     @Test
@@ -115,4 +118,21 @@ public class RequestControllerTest {
                 .andExpect(status().isNotFound());
         verify(requestService, times(1)).get(userId, requestId);
     }
+
+    @Test
+    @DisplayName("Проверка получения последней страницы запросов других пользователей по курсору")
+    void checkGetOtherUsersRequestsWithCursorShouldNotReturnNextCursorHeaderOnLastPage() throws Exception {
+        long userId = 1L;
+        List<RequestDto> expectedList = List.of(TestData.createTestRequestDto(1L));
+
+        when(requestService.getOtherUsersRequests(userId, "cursor", 5))
+                .thenReturn(new CursorPage<>(expectedList, null));
+
+        mockMvc.perform(get("/requests/all").header(HEADER_USER_ID, userId)
+                        .queryParam("cursor", "cursor")
+                        .queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
+    }
 }
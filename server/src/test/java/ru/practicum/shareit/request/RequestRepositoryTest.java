@@ -39,7 +39,8 @@ public class RequestRepositoryTest {
         requestRepository.save(request2);
         requestRepository.save(request3);
 
-        List<Request> expectedList = requestRepository.findAllByUserIdOrderByCreatedDesc(userId);
+        List<Request> expectedList = requestRepository.findAllByUserIdOrderByCreatedDesc(userId,
+                Pagination.splitByPages(0, 20));
 
         assertThat(expectedList.size()).isEqualTo(3);
         assertThat(expectedList.get(0)).isEqualTo(request1);
@@ -63,7 +64,8 @@ public class RequestRepositoryTest {
         requestRepository.save(request2);
         requestRepository.save(request3);
 
-        List<Request> expectedList = requestRepository.findAllByUserIdOrderByCreatedDesc(userId);
+        List<Request> expectedList = requestRepository.findAllByUserIdOrderByCreatedDesc(userId,
+                Pagination.splitByPages(0, 20));
 
         assertThat(expectedList.get(0).getCreated()).isAfter(expectedList.get(1).getCreated());
         assertThat(expectedList.get(1).getCreated()).isAfter(expectedList.get(2).getCreated());
@@ -99,4 +101,31 @@ public class RequestRepositoryTest {
         assertThat(expectedList.get(1)).isEqualTo(request2);
         assertThat(expectedList.get(2)).isEqualTo(request3);
     }
+
+    @Test
+    @DisplayName("Проверка постраничного получения запросов других пользователей по курсору")
+    void checkFindAllByUserIdIsNotBeforeKeysetShouldReturnRequestsAfterCursor() {
+        long userId = 1L;
+        User requester = TestData.createTestUser(userId);
+        User user = TestData.createTestUser(2L);
+        user.setEmail("test1@test.ru");
+        userRepository.save(requester);
+        userRepository.save(user);
+
+        LocalDateTime checkTime = LocalDateTime.of(2023, 1, 1, 9, 0);
+
+        Request request1 = TestData.createTestRequest(1L, checkTime.minusDays(1), user);
+        Request request2 = TestData.createTestRequest(2L, checkTime.minusDays(2), user);
+        Request request3 = TestData.createTestRequest(3L, checkTime.minusDays(3), user);
+        Request ownRequest = TestData.createTestRequest(4L, checkTime.minusDays(4), requester);
+        requestRepository.save(request1);
+        requestRepository.save(request2);
+        requestRepository.save(request3);
+        requestRepository.save(ownRequest);
+
+        List<Request> page = requestRepository.findAllByUserIdIsNotBeforeKeyset(userId, request1.getCreated(),
+                request1.getId(), Pagination.firstRows(20));
+
+        assertThat(page).isEqualTo(List.of(request2, request3));
+    }
 }
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.request;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemMapperImpl;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RequestServiceImpl.class, RequestMapperImpl.class, ItemMapperImpl.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class RequestServiceQueryCountTest {
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private UserService userService;
+
+    @Test
+    @DisplayName("Проверка неизменности числа запросов к БД при росте списка собственных запросов")
+    void checkGetOwnRequestsShouldIssueSameQueryCountForAnyListSize() {
+        User requester = userRepository.save(TestData.createTestUser(1L));
+        User owner = TestData.createTestUser(2L);
+        owner.setEmail("owner@test.ru");
+        userRepository.save(owner);
+
+        createRequestsWithItems(2, requester, owner);
+        long smallListQueries = countQueries(() -> assertThat(requestService.getOwnRequests(requester.getId(),
+                Pagination.firstRows(40)))
+                .hasSize(2));
+
+        createRequestsWithItems(30, requester, owner);
+        long largeListQueries = countQueries(() -> {
+            List<RequestDto> requests = requestService.getOwnRequests(requester.getId(), Pagination.firstRows(40));
+            assertThat(requests).hasSize(32);
+            assertThat(requests).allSatisfy(requestDto -> assertThat(requestDto.getItems()).hasSize(1));
+        });
+
+        assertThat(largeListQueries).isEqualTo(smallListQueries);
+    }
+
+    private void createRequestsWithItems(int count, User requester, User owner) {
+        for (int i = 0; i < count; i++) {
+            Request request = requestRepository.save(TestData.createTestRequest(0L, LocalDateTime.now(), requester));
+            Item item = TestData.createTestItem(0L, true, owner);
+            item.setRequest(request);
+            itemRepository.save(item);
+        }
+    }
+
+    private long countQueries(Runnable action) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -10,6 +10,9 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.TestData;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Cursor;
+import ru.practicum.shareit.common.pagination.CursorPage;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.request.dto.RequestDto;
@@ -26,7 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,11 +92,11 @@ public class RequestServiceTest {
                 TestData.createTestRequest(2L, LocalDateTime.now(), user),
                 TestData.createTestRequest(3L, LocalDateTime.now(), user));
 
-        when(userService.get(userId)).thenReturn(user);
-        when(itemRepository.findAllByRequestId(anyLong())).thenReturn(Collections.emptyList());
-        when(requestRepository.findAllByUserIdOrderByCreatedDesc(userId)).thenReturn(expectedList);
+        when(itemRepository.findAllByRequestIdIn(any())).thenReturn(Collections.emptyList());
+        when(requestRepository.findAllByUserIdOrderByCreatedDesc(userId, Pagination.splitByPages(0, 20)))
+                .thenReturn(expectedList);
 
-        assertThat(requestService.getOwnRequests(userId)).isEqualTo(
+        assertThat(requestService.getOwnRequests(userId, Pagination.splitByPages(0, 20))).isEqualTo(
                 expectedList.stream().map(requestMapper::transformRequestToRequestDto)
                         .peek(requestDto -> requestDto.setItems(Collections.emptyList())).collect(Collectors.toList()));
     }
@@ -103,10 +106,10 @@ public class RequestServiceTest {
     void checkGetOwnRequestsShouldThrowObjectNotFoundExceptionIfNonexistentUserId() {
         long userId = 1L;
 
-        when(userService.get(userId)).thenThrow(new ObjectNotFoundException("Пользователь", userId));
+        doThrow(new ObjectNotFoundException("Пользователь", userId)).when(userService).checkExists(userId);
 
         assertThatThrownBy(() -> {
-            requestService.getOwnRequests(userId);
+            requestService.getOwnRequests(userId, Pagination.splitByPages(0, 20));
         }).isInstanceOf(ObjectNotFoundException.class);
     }
 
@@ -121,8 +124,7 @@ public class RequestServiceTest {
                 TestData.createTestRequest(2L, LocalDateTime.now(), user),
                 TestData.createTestRequest(3L, LocalDateTime.now(), user));
 
-        when(userService.get(userId)).thenReturn(user);
-        when(itemRepository.findAllByRequestId(anyLong())).thenReturn(Collections.emptyList());
+        when(itemRepository.findAllByRequestIdIn(any())).thenReturn(Collections.emptyList());
         when(requestRepository.findAllByUserIdIsNotOrderByCreatedDesc(userId, null)).thenReturn(expectedList);
 
         assertThat(requestService.getOtherUsersRequests(userId, null)).isEqualTo(
@@ -135,7 +137,7 @@ public class RequestServiceTest {
     void checkGetOtherUsersRequestsShouldThrowObjectNotFoundExceptionIfNonexistentUserId() {
         long userId = 1L;
 
-        when(userService.get(userId)).thenThrow(new ObjectNotFoundException("Пользователь", userId));
+        doThrow(new ObjectNotFoundException("Пользователь", userId)).when(userService).checkExists(userId);
 
         assertThatThrownBy(() -> requestService.getOtherUsersRequests(userId, null))
                 .isInstanceOf(ObjectNotFoundException.class);
@@ -152,7 +154,6 @@ public class RequestServiceTest {
         RequestDto requestDto = requestMapper.transformRequestToRequestDto(request);
         requestDto.setItems(Collections.emptyList());
 
-        when(userService.get(userId)).thenReturn(user);
         when(itemRepository.findAllByRequestId(requestId)).thenReturn(Collections.emptyList());
         when(requestRepository.findById(requestId)).thenReturn(Optional.of(request));
 
@@ -169,4 +170,23 @@ public class RequestServiceTest {
 
         assertThatThrownBy(() -> requestService.get(userId, requestId)).isInstanceOf(ObjectNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Проверка получения последней страницы запросов других пользователей по курсору")
+    void checkGetOtherUsersRequestsWithCursorShouldReturnLastPageWithoutNextCursor() {
+        long userId = 1L;
+        User user = TestData.createTestUser(2L);
+        LocalDateTime created = LocalDateTime.of(2023, 1, 1, 9, 0);
+        List<Request> requests = List.of(TestData.createTestRequest(1L, created, user));
+
+        when(itemRepository.findAllByRequestIdIn(any())).thenReturn(Collections.emptyList());
+        when(requestRepository.findAllByUserIdIsNotBeforeKeyset(userId, created, 2L, Pagination.firstRows(21)))
+                .thenReturn(requests);
+
+        CursorPage<RequestDto> page = requestService.getOtherUsersRequests(userId,
+                Cursor.encode(created, 2L), 20);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertNull(page.getNextCursor());
+    }
 }
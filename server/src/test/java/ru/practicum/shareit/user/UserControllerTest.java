@@ -7,14 +7,20 @@ import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.exception.DuplicateEmailException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Pagination;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -22,6 +28,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -116,6 +123,32 @@ public class UserControllerTest {
         mockMvc.perform(get("/users/sometext75")).andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Проверка метода на получение пользователей по списку ID")
+    void checkGetAllByIdsShouldReturnFoundUsers() throws Exception {
+        List<User> expectedList = List.of(TestData.createTestUser(2L), TestData.createTestUser(1L));
+
+        when(userService.getAll(List.of(2L, 1L, 3L))).thenReturn(expectedList);
+
+        mockMvc.perform(get("/users").param("ids", "2,1,3"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
+        verify(userService, times(1)).getAll(List.of(2L, 1L, 3L));
+        verify(userService, never()).getAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Проверка ограничения количества ID при получении пользователей по списку")
+    void checkGetAllByIdsShouldReturnBadRequestIfTooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, Pagination.MAX_LOOKUP_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/users").param("ids", ids))
+                .andExpect(status().isBadRequest());
+        verify(userService, never()).getAll(anyCollection());
+    }
+
     @Test
     @DisplayName("Проверка метода на получение списка всех пользователей")
     void checkGetAllShouldReturnAllUserList() throws Exception {
@@ -123,21 +156,33 @@ public class UserControllerTest {
                                           TestData.createTestUser(2L),
                                           TestData.createTestUser(3L));
 
-        when(userService.getAll()).thenReturn(expectedList);
+        when(userService.getAll(Pagination.splitByPages(null, null))).thenReturn(expectedList);
 
         mockMvc.perform(get("/users")).andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
-        verify(userService, times(2)).getAll();
+        verify(userService, times(1)).getAll(Pagination.splitByPages(null, null));
+    }
+
+    @Test
+    @DisplayName("Проверка постраничного получения списка пользователей")
+    void checkGetAllShouldPassRequestedPage() throws Exception {
+        List<User> expectedList = List.of(TestData.createTestUser(3L));
+
+        when(userService.getAll(Pagination.splitByPages(20, 10))).thenReturn(expectedList);
+
+        mockMvc.perform(get("/users").param("from", "20").param("size", "10")).andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedList)));
+        verify(userService, times(1)).getAll(Pagination.splitByPages(20, 10));
     }
 
     @Test
     @DisplayName("Проверка метода на получение списка всех пользователей, когда список пуст")
     void checkGetAllShouldReturnEmptyUserList() throws Exception {
-        when(userService.getAll()).thenReturn(Collections.emptyList());
+        when(userService.getAll(Pagination.splitByPages(null, null))).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/users")).andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(Collections.emptyList())));
-        verify(userService, times(2)).getAll();
+        verify(userService, times(1)).getAll(Pagination.splitByPages(null, null));
     }
 
     @Test
@@ -159,4 +204,23 @@ public class UserControllerTest {
         mockMvc.perform(delete(String.format("/users/%d", id))).andExpect(status().isNotFound());
         verify(userService, times(1)).delete(id);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Проверка метода на пакетное создание пользователей")
+    void checkCreateAllShouldReturnResultForEachUser() throws Exception {
+        User user = TestData.createTestUser(1);
+        List<UserDto> userDtos = List.of(new UserDto(user.getName(), user.getEmail()),
+                new UserDto(user.getName(), user.getEmail()));
+
+        when(userService.createAll(userDtos)).thenReturn(List.of(BatchResult.created(0, user),
+                BatchResult.failed(1, new DuplicateEmailException(user.getEmail()))));
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userDtos)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].body.id").value(user.getId()))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value(409));
+    }
+}
@@ -3,27 +3,72 @@ package ru.practicum.shareit.user;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.TestData;
+import ru.practicum.shareit.booking.BookingListCache;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingTimelineIndex;
+import ru.practicum.shareit.common.batch.BatchResult;
+import ru.practicum.shareit.common.cache.CacheConfig;
+import ru.practicum.shareit.common.cache.NegativeCache;
 import ru.practicum.shareit.common.exception.DuplicateEmailException;
 import ru.practicum.shareit.common.exception.ObjectNotFoundException;
+import ru.practicum.shareit.common.pagination.Pagination;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.item.view.ItemViewCache;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
+    private static final Pageable PAGE = Pagination.splitByPages(0, 20);
+
     @Mock
     private UserRepository userRepository;
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS,
+            CacheConfig.EXISTING_USER_IDS, CacheConfig.MISSING_IDS);
+    @Spy
+    private NegativeCache negativeCache = new NegativeCache(cacheManager);
+    @Mock
+    private BookingListCache bookingListCache;
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private BookingTimelineIndex bookingTimelineIndex;
+    @Mock
+    private ItemViewCache itemViewCache;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityManagerFactory entityManagerFactory;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -45,6 +90,19 @@ public class UserServiceTest {
         assertThat(user.getName()).isEqualTo(userDto.getName());
     }
 
+    @Test
+    @DisplayName("Проверка удаления из кеша представлений вещей пользователя и вещей с его отзывами при обновлении")
+    void checkUpdateShouldEvictOwnedAndCommentedItemViews() {
+        long id = 1L;
+
+        when(userRepository.findById(id)).thenReturn(Optional.of(TestData.createTestUser(id)));
+        when(itemRepository.findIdsByOwnerId(id)).thenReturn(List.of(2L, 3L));
+        when(commentRepository.findItemIdsByAuthorId(id)).thenReturn(List.of(3L, 4L));
+        userService.update(id, new UserDto("Новое имя", null));
+
+        verify(itemViewCache, times(1)).evictAll(Set.of(2L, 3L, 4L));
+    }
+
     @Test
     @DisplayName("Проверка метода обновления пользователя (email)")
     void checkUpdateShouldUpdateUserEmail() {
@@ -114,19 +172,19 @@ public class UserServiceTest {
                 TestData.createTestUser(2L),
                 TestData.createTestUser(3L));
 
-        when(userRepository.findAll()).thenReturn(expectedList);
+        when(userRepository.findAllByOrderByIdAsc(PAGE)).thenReturn(expectedList);
 
-        assertThat(userService.getAll()).isEqualTo(expectedList);
-        verify(userRepository, times(1)).findAll();
+        assertThat(userService.getAll(PAGE)).isEqualTo(expectedList);
+        verify(userRepository, times(1)).findAllByOrderByIdAsc(PAGE);
     }
 
     @Test
     @DisplayName("Проверка метода получения списка всех пользователей при пустом списке")
     void checkGetAllShouldReturnEmptyUserList() {
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+        when(userRepository.findAllByOrderByIdAsc(PAGE)).thenReturn(Collections.emptyList());
 
-        assertThat(userService.getAll()).isEmpty();
-        verify(userRepository, times(1)).findAll();
+        assertThat(userService.getAll(PAGE)).isEmpty();
+        verify(userRepository, times(1)).findAllByOrderByIdAsc(PAGE);
     }
 
     @Test
@@ -138,10 +196,28 @@ public class UserServiceTest {
         when(userRepository.findById(id)).thenReturn(Optional.of(user));
         userService.delete(id);
 
-        assertThat(userService.getAll()).isEmpty();
+        assertThat(userService.getAll(PAGE)).isEmpty();
         verify(userRepository, times(1)).deleteById(id);
     }
 
+    @Test
+    @DisplayName("Проверка удаления из индекса бронирований и кеша представлений вещей пользователя")
+    void checkDeleteShouldRemoveTimelinesAndViewsOfUserItems() {
+        long id = 1L;
+        User user = TestData.createTestUser(id);
+
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        when(bookingRepository.findItemIdsByBookerId(id)).thenReturn(List.of(2L, 3L));
+        when(itemRepository.findIdsByOwnerId(id)).thenReturn(List.of(3L, 4L));
+        when(commentRepository.findItemIdsByAuthorId(id)).thenReturn(List.of(5L));
+        userService.delete(id);
+
+        verify(bookingTimelineIndex, times(1)).remove(2L);
+        verify(bookingTimelineIndex, times(1)).remove(3L);
+        verify(bookingTimelineIndex, times(1)).remove(4L);
+        verify(itemViewCache, times(1)).evictAll(Set.of(2L, 3L, 4L, 5L));
+    }
+
     @Test
     @DisplayName("Проверка метода удаления пользователя по несуществующему ID")
     void checkDeleteShouldThrowObjectNotFoundExceptionIfNonexistentId() {
@@ -150,4 +226,153 @@ public class UserServiceTest {
 
         assertThatThrownBy(() -> userService.delete(id)).isInstanceOf(ObjectNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Проверка повторного получения пользователя из кеша")
+    void checkGetShouldLoadUserOnceAndServeCopiesFromCache() {
+        long id = 1L;
+        User user = TestData.createTestUser(id);
+
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+
+        assertThat(userService.get(id)).isEqualTo(user);
+        User cached = userService.get(id);
+        cached.setName("Изменённое имя");
+
+        assertThat(userService.get(id)).isEqualTo(user);
+        verify(userRepository, times(1)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Проверка получения пользователей по списку ID с догрузкой отсутствующих в кеше")
+    void checkGetAllByIdsShouldLoadOnlyUncachedUsersAndSkipMissing() {
+        User cached = TestData.createTestUser(1L);
+        User loaded = TestData.createTestUser(2L);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(cached));
+        when(userRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(loaded));
+        userService.get(1L);
+
+        assertThat(userService.getAll(List.of(2L, 1L, 3L, 2L))).containsExactly(loaded, cached);
+        assertThat(userService.getAll(List.of(3L, 2L))).containsExactly(loaded);
+        verify(userRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Проверка сброса списков бронирований с данными пользователя при обновлении")
+    void checkUpdateShouldEvictBookingListsShowingUser() {
+        long id = 1L;
+
+        when(userRepository.findById(id)).thenReturn(Optional.of(TestData.createTestUser(id)));
+        when(bookingRepository.findItemOwnerIdsByBookerId(id)).thenReturn(List.of(2L, 3L));
+
+        userService.update(id, new UserDto("Новое имя", null));
+
+        verify(bookingListCache).evictUsers(BookingListCache.Role.BOOKER, List.of(id));
+        verify(bookingListCache).evictUsers(BookingListCache.Role.OWNER, List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Проверка сброса кеша пользователя при обновлении")
+    void checkUpdateShouldEvictCachedUser() {
+        long id = 1L;
+        User user = TestData.createTestUser(id);
+
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+
+        userService.get(id);
+        userService.update(id, new UserDto("Новое имя", null));
+
+        assertThat(userService.get(id).getName()).isEqualTo("Новое имя");
+        verify(userRepository, times(3)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Проверка проверки существования пользователя без загрузки сущности")
+    void checkCheckExistsShouldUseExistsQueryOnceAndCacheResult() {
+        long id = 1L;
+
+        when(userRepository.existsById(id)).thenReturn(true);
+
+        userService.checkExists(id);
+        userService.checkExists(id);
+
+        verify(userRepository, times(1)).existsById(id);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Проверка проверки существования удалённого пользователя")
+    void checkCheckExistsShouldThrowObjectNotFoundExceptionAfterDelete() {
+        long id = 1L;
+        User user = TestData.createTestUser(id);
+
+        when(userRepository.existsById(id)).thenReturn(true, false);
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+
+        userService.checkExists(id);
+        userService.delete(id);
+
+        assertThatThrownBy(() -> userService.checkExists(id)).isInstanceOf(ObjectNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Проверка повторного получения несуществующего пользователя без обращения к базе данных")
+    void checkGetShouldQueryMissingUserOnce() {
+        long id = 1L;
+
+        when(userRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.get(id)).isInstanceOf(ObjectNotFoundException.class);
+        assertThatThrownBy(() -> userService.checkExists(id))
+                .isInstanceOf(ObjectNotFoundException.class)
+                .hasMessage("Пользователь с ID: 1 не найден!")
+                .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+
+        verify(userRepository, times(1)).findById(id);
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Проверка получения пользователя, созданного после неудачного запроса")
+    void checkCreateShouldForgetMissingUserId() {
+        long id = 1L;
+        User user = TestData.createTestUser(id);
+
+        when(userRepository.findById(id)).thenReturn(Optional.empty(), Optional.of(user));
+        when(userRepository.save(any())).thenReturn(user);
+
+        assertThatThrownBy(() -> userService.get(id)).isInstanceOf(ObjectNotFoundException.class);
+        userService.create(new UserDto(user.getName(), user.getEmail()));
+
+        assertThat(userService.get(id)).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Проверка пакетного создания пользователей с повторяющимися email")
+    void checkCreateAllShouldRejectDuplicateEmailsAndSaveOthersAtOnce() {
+        User existing = TestData.createTestUser(1L);
+        List<UserDto> userDtos = List.of(new UserDto("Первый", "first@email.ru"),
+                new UserDto("Существующий", existing.getEmail()),
+                new UserDto("Второй", "second@email.ru"),
+                new UserDto("Повтор", "first@email.ru"));
+        AtomicLong ids = new AtomicLong(10L);
+
+        when(userRepository.findAllByEmailIn(anyCollection())).thenReturn(List.of(existing));
+        when(userRepository.saveAll(anyCollection())).thenAnswer(invocationOnMock -> {
+            Collection<User> users = invocationOnMock.getArgument(0);
+            users.forEach(user -> user.setId(ids.getAndIncrement()));
+            return new ArrayList<>(users);
+        });
+
+        List<BatchResult<User>> results = userService.createAll(userDtos);
+
+        assertThat(results).extracting(BatchResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BatchResult::getStatus).containsExactly(201, 409, 201, 409);
+        assertThat(results.get(0).getBody().getId()).isEqualTo(10L);
+        assertThat(results.get(2).getBody().getId()).isEqualTo(11L);
+        assertThat(results.get(1).getError()).contains(existing.getEmail());
+        verify(userRepository, times(1)).saveAll(anyCollection());
+        verify(userRepository, never()).save(any());
+    }
 }